@@ -1,5 +1,6 @@
 package appeng.api.behaviors;
 
+import java.util.List;
 import java.util.Map;
 
 import org.jetbrains.annotations.ApiStatus;
@@ -40,6 +41,20 @@ public interface PickupStrategy {
      */
     boolean pickUpEntity(IEnergySource energySource, PickupSink sink, Entity entity);
 
+    /**
+     * Pick up multiple entities at once, which allows the strategy to combine what it picks up before placing it into
+     * the given sink. Returns true if all entities were picked up successfully.
+     */
+    default boolean pickUpEntities(IEnergySource energySource, PickupSink sink, List<? extends Entity> entities) {
+        var pickedUpAll = true;
+        for (var entity : entities) {
+            if (!pickUpEntity(energySource, sink, entity)) {
+                pickedUpAll = false;
+            }
+        }
+        return pickedUpAll;
+    }
+
     Result tryStartPickup(IEnergySource energySource, PickupSink sink);
 
     void completePickup(IEnergySource energySource, PickupSink sink);
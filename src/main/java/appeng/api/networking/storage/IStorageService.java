@@ -51,6 +51,21 @@ public interface IStorageService extends IGridService {
      */
     KeyCounter getCachedInventory();
 
+    /**
+     * Returns the sum of all amounts in {@link #getCachedInventory()}. It is maintained alongside the cache, and thus
+     * follows the same update rules, but does not require iterating over the cache.
+     *
+     * @return The total amount of all cached stacks, capped at {@link Long#MAX_VALUE}.
+     */
+    default long getCachedTotalAmount() {
+        long total = 0;
+        for (var entry : getCachedInventory()) {
+            var amount = entry.getLongValue();
+            total = amount > Long.MAX_VALUE - total ? Long.MAX_VALUE : total + amount;
+        }
+        return total;
+    }
+
     /**
      * Adds a {@link IStorageProvider} that is not associated with a specific {@link appeng.api.networking.IGridNode }.
      * This is for adding storage provided by {@link IGridService}s for examples.
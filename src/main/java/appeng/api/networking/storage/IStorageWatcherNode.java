@@ -23,6 +23,8 @@
 
 package appeng.api.networking.storage;
 
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+
 import appeng.api.networking.IGridNodeService;
 import appeng.api.networking.IStackWatcher;
 import appeng.api.stacks.AEKey;
@@ -48,4 +50,16 @@ public interface IStorageWatcherNode extends IGridNodeService {
      * @param amount New amount in the network
      */
     void onStackChange(AEKey what, long amount);
+
+    /**
+     * Called once per tick with all changes to watched items. Hosts that watch many items, or all of them, can override
+     * this to handle the changes at once. By default, {@link #onStackChange} is called for each change.
+     *
+     * @param changes The changed items and their new amounts in the network. Must not be modified or retained.
+     */
+    default void onStackChanges(Object2LongMap<AEKey> changes) {
+        for (var entry : changes.object2LongEntrySet()) {
+            onStackChange(entry.getKey(), entry.getLongValue());
+        }
+    }
 }
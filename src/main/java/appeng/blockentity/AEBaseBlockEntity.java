@@ -89,6 +89,7 @@ protected void onChunkUnloaded() {
     private Direction forward = Direction.NORTH;
     private Direction up = Direction.UP;
     private boolean setChangedQueued = false;
+    private boolean markForUpdateQueued = false;
     /**
      * For diagnosing issues with the delayed block entity initialization, this tracks how often this BE has been queued
      * for defered initializiation using {@link appeng.api.networking.GridHelper#onFirstTick}.
@@ -268,25 +269,49 @@ protected void saveVisualState(CompoundTag data) {
     protected void loadVisualState(CompoundTag data) {
     }
 
+    /**
+     * Synchronizes the block state and the visual state of this block entity with the clients.
+     * <p>
+     * On the server, this is deferred until the end of the server tick, so that block entities which change their
+     * visual state multiple times per tick (i.e. blinking drive LEDs) only cause a single block update.
+     */
     public void markForUpdate() {
-        // TODO: Optimize Network Load
+        if (this.level == null || this.isRemoved() || notLoaded()) {
+            return;
+        }
+
+        if (this.level.isClientSide()) {
+            this.sendBlockUpdate();
+        } else if (!this.markForUpdateQueued) {
+            TickHandler.instance().addCallable(null, this::markForUpdateAtEndOfTick);
+            this.markForUpdateQueued = true;
+        }
+    }
+
+    private Object markForUpdateAtEndOfTick(Level level) {
+        this.markForUpdateQueued = false;
+        // The block entity might have been removed or unloaded in the meantime
         if (this.level != null && !this.isRemoved() && !notLoaded()) {
+            this.sendBlockUpdate();
+        }
+        return null;
+    }
 
-            boolean alreadyUpdated = false;
-            // Let the block update its own state with our internal state changes
-            BlockState currentState = getBlockState();
-            if (currentState.getBlock() instanceof AEBaseEntityBlock<?>block) {
-                BlockState newState = block.getBlockEntityBlockState(currentState, this);
-                if (currentState != newState) {
-                    AELog.blockUpdate(this.worldPosition, currentState, newState, this);
-                    this.level.setBlockAndUpdate(worldPosition, newState);
-                    alreadyUpdated = true;
-                }
+    private void sendBlockUpdate() {
+        boolean alreadyUpdated = false;
+        // Let the block update its own state with our internal state changes
+        BlockState currentState = getBlockState();
+        if (currentState.getBlock() instanceof AEBaseEntityBlock<?>block) {
+            BlockState newState = block.getBlockEntityBlockState(currentState, this);
+            if (currentState != newState) {
+                AELog.blockUpdate(this.worldPosition, currentState, newState, this);
+                this.level.setBlockAndUpdate(worldPosition, newState);
+                alreadyUpdated = true;
             }
+        }
 
-            if (!alreadyUpdated) {
-                this.level.sendBlockUpdated(this.worldPosition, currentState, currentState, Block.UPDATE_NEIGHBORS);
-            }
+        if (!alreadyUpdated) {
+            this.level.sendBlockUpdated(this.worldPosition, currentState, currentState, Block.UPDATE_NEIGHBORS);
         }
     }
 
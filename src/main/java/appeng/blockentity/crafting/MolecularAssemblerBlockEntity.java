@@ -95,6 +95,14 @@ public class MolecularAssemblerBlockEntity extends AENetworkInvBlockEntity
     private boolean isAwake = false;
     private boolean forcePlan = false;
     private boolean reboot = true;
+    /**
+     * The plan, crafting grid and result of the last assembly. Checking whether the materials are present and
+     * completing the craft assemble the same grid again, which is expensive for special recipes.
+     */
+    @Nullable
+    private IMolecularAssemblerSupportedPattern lastAssembledPlan;
+    private final ItemStack[] lastAssembledGrid = new ItemStack[9];
+    private ItemStack lastAssembledOutput = ItemStack.EMPTY;
 
     @Environment(EnvType.CLIENT)
     private AssemblerAnimationStatus animationStatus;
@@ -183,11 +191,30 @@ private boolean hasMats() {
             return false;
         }
 
+        return !this.assembleCraftingGrid().isEmpty();
+    }
+
+    /**
+     * Fills the crafting inventory from the grid inventory and assembles the result using the current plan, reusing
+     * the previous result if neither the plan nor the grid have changed since.
+     */
+    private ItemStack assembleCraftingGrid() {
+        var unchanged = this.lastAssembledPlan == this.myPlan;
         for (int x = 0; x < this.craftingInv.getContainerSize(); x++) {
-            this.craftingInv.setItem(x, this.gridInv.getStackInSlot(x));
+            var stack = this.gridInv.getStackInSlot(x);
+            this.craftingInv.setItem(x, stack);
+            unchanged &= this.lastAssembledGrid[x] != null && ItemStack.matches(this.lastAssembledGrid[x], stack);
         }
 
-        return !this.myPlan.assemble(this.craftingInv, this.getLevel()).isEmpty();
+        if (!unchanged) {
+            this.lastAssembledOutput = this.myPlan.assemble(this.craftingInv, this.getLevel());
+            this.lastAssembledPlan = this.myPlan;
+            for (int x = 0; x < this.craftingInv.getContainerSize(); x++) {
+                this.lastAssembledGrid[x] = this.craftingInv.getItem(x).copy();
+            }
+        }
+
+        return this.lastAssembledOutput;
     }
 
     @Override
@@ -397,12 +424,8 @@ public TickRateModulation tickingRequest(IGridNode node, int ticksSinceLastCall)
         }
 
         if (this.progress >= 100) {
-            for (int x = 0; x < this.craftingInv.getContainerSize(); x++) {
-                this.craftingInv.setItem(x, this.gridInv.getStackInSlot(x));
-            }
-
             this.progress = 0;
-            final ItemStack output = this.myPlan.assemble(this.craftingInv, this.getLevel());
+            final ItemStack output = this.assembleCraftingGrid();
             if (!output.isEmpty()) {
                 CraftingEvent.fireAutoCraftingEvent(getLevel(), this.myPlan, output, this.craftingInv);
 
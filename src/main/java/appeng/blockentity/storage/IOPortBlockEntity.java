@@ -35,6 +35,7 @@
 import appeng.api.config.Actionable;
 import appeng.api.config.FullnessMode;
 import appeng.api.config.OperationMode;
+import appeng.api.config.PowerMultiplier;
 import appeng.api.config.RedstoneMode;
 import appeng.api.config.Settings;
 import appeng.api.config.YesNo;
@@ -51,7 +52,6 @@
 import appeng.api.stacks.KeyCounter;
 import appeng.api.storage.MEStorage;
 import appeng.api.storage.StorageCells;
-import appeng.api.storage.StorageHelper;
 import appeng.api.storage.cells.CellState;
 import appeng.api.storage.cells.StorageCell;
 import appeng.api.upgrades.IUpgradeInventory;
@@ -337,40 +337,55 @@ private long transferContents(IGrid grid, StorageCell cellInv, long itemsToMove)
             destination = cellInv;
         }
 
+        // Check the available power once and pay for everything that was moved at the end, instead of simulating
+        // and extracting power separately for every key.
         var energy = grid.getEnergyService();
-        boolean didStuff;
+        var availablePower = energy.extractAEPower(itemsToMove, Actionable.SIMULATE, PowerMultiplier.CONFIG);
+        var usedPower = 0.0;
 
-        do {
-            didStuff = false;
+        // Every key is visited at most once per call, so the work done is linear in the number of keys in the source.
+        for (var srcEntry : srcList) {
+            if (itemsToMove <= 0) {
+                break;
+            }
 
-            for (var srcEntry : srcList) {
-                var totalStackSize = srcEntry.getLongValue();
-                if (totalStackSize > 0) {
-                    var what = srcEntry.getKey();
-                    var possible = destination.insert(what, totalStackSize, Actionable.SIMULATE, this.mySrc);
+            var totalStackSize = srcEntry.getLongValue();
+            if (totalStackSize <= 0) {
+                continue;
+            }
 
-                    if (possible > 0) {
-                        possible = Math.min(possible, itemsToMove * what.getAmountPerOperation());
+            var what = srcEntry.getKey();
+            var energyFactor = Math.max(1.0, what.getAmountPerOperation());
+            var affordable = (long) ((availablePower - usedPower) * energyFactor + 0.9);
+            if (affordable <= 0) {
+                break;
+            }
 
-                        possible = src.extract(what, possible, Actionable.MODULATE, this.mySrc);
-                        if (possible > 0) {
-                            var inserted = StorageHelper.poweredInsert(energy, destination, what, possible, this.mySrc);
+            var possible = destination.insert(what, totalStackSize, Actionable.SIMULATE, this.mySrc);
+            possible = Math.min(possible, itemsToMove * what.getAmountPerOperation());
+            possible = Math.min(possible, affordable);
+            if (possible <= 0) {
+                continue;
+            }
 
-                            if (inserted < possible) {
-                                src.insert(what, possible - inserted, Actionable.MODULATE, this.mySrc);
-                            }
+            possible = src.extract(what, possible, Actionable.MODULATE, this.mySrc);
+            if (possible > 0) {
+                var inserted = destination.insert(what, possible, Actionable.MODULATE, this.mySrc);
 
-                            if (inserted > 0) {
-                                itemsToMove -= Math.max(1, inserted / what.getAmountPerOperation());
-                                didStuff = true;
-                            }
+                if (inserted < possible) {
+                    src.insert(what, possible - inserted, Actionable.MODULATE, this.mySrc);
+                }
 
-                            break;
-                        }
-                    }
+                if (inserted > 0) {
+                    usedPower += inserted / energyFactor;
+                    itemsToMove -= Math.max(1, inserted / what.getAmountPerOperation());
                 }
             }
-        } while (itemsToMove > 0 && didStuff);
+        }
+
+        if (usedPower > 0) {
+            energy.extractAEPower(usedPower, Actionable.MODULATE, PowerMultiplier.CONFIG);
+        }
 
         return itemsToMove;
     }
@@ -31,6 +31,7 @@
 import com.google.common.collect.BiMap;
 import com.google.common.collect.HashBiMap;
 
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
 import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
 import it.unimi.dsi.fastutil.longs.LongSet;
 
@@ -44,6 +45,7 @@
 import appeng.core.AELog;
 import appeng.menu.me.common.GridInventoryEntry;
 import appeng.menu.me.common.IClientRepo;
+import appeng.menu.me.common.IncrementalUpdateHelper;
 import appeng.util.prioritylist.IPartitionList;
 
 /**
@@ -68,6 +70,12 @@ public class Repo implements IClientRepo {
     private boolean hasPower;
 
     private final BiMap<Long, GridInventoryEntry> entries = HashBiMap.create();
+    /**
+     * The server sends the key for a serial only once, and afterwards only refers to it by serial. This remembers the
+     * keys of entries that have since been removed, in the order they were removed. Just like the server, only the
+     * most recently removed {@link IncrementalUpdateHelper#MAX_RETIRED_SERIALS} are kept.
+     */
+    private final Long2ObjectLinkedOpenHashMap<AEKey> retiredKeys = new Long2ObjectLinkedOpenHashMap<>();
     private final ArrayList<GridInventoryEntry> view = new ArrayList<>();
     private final ArrayList<GridInventoryEntry> pinnedRow = new ArrayList<>();
     private final RepoSearch search = new RepoSearch();
@@ -106,11 +114,34 @@ public final void handleUpdate(boolean fullUpdate, List<GridInventoryEntry> entr
     private void handleUpdate(GridInventoryEntry serverEntry) {
 
         var localEntry = entries.get(serverEntry.getSerial());
+        var retiredKey = retiredKeys.remove(serverEntry.getSerial());
+        if (!serverEntry.isMeaningful()) {
+            // Mirrors IncrementalUpdateHelper#retireSerial on the server
+            var key = serverEntry.getWhat();
+            if (key == null) {
+                key = localEntry != null ? localEntry.getWhat() : retiredKey;
+            }
+            if (key != null) {
+                retiredKeys.putAndMoveToLast(serverEntry.getSerial(), key);
+                if (retiredKeys.size() > IncrementalUpdateHelper.MAX_RETIRED_SERIALS) {
+                    retiredKeys.removeFirst();
+                }
+            }
+        }
+
         if (localEntry == null) {
             // First time we're seeing this serial -> create new entry
             if (serverEntry.getWhat() == null) {
-                AELog.warn("First time seeing serial %s, but incomplete info received", serverEntry.getSerial());
-                return;
+                if (retiredKey == null) {
+                    AELog.warn("First time seeing serial %s, but incomplete info received", serverEntry.getSerial());
+                    return;
+                }
+                serverEntry = new GridInventoryEntry(
+                        serverEntry.getSerial(),
+                        retiredKey,
+                        serverEntry.getStoredAmount(),
+                        serverEntry.getRequestableAmount(),
+                        serverEntry.isCraftable());
             }
             if (serverEntry.isMeaningful()) {
                 entries.put(serverEntry.getSerial(), serverEntry);
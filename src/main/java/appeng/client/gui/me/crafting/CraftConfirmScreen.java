@@ -78,7 +78,7 @@ protected void updateBeforeRender() {
         this.selectCPU.setMessage(getNextCpuButtonLabel());
 
         CraftingPlanSummary plan = menu.getPlan();
-        boolean planIsStartable = plan != null && !plan.isSimulation();
+        boolean planIsStartable = plan != null && plan.isComplete() && !plan.isSimulation();
         this.start.active = !this.menu.hasNoCPU() && planIsStartable;
         this.selectCPU.active = planIsStartable;
 
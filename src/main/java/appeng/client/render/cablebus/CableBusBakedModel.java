@@ -21,10 +21,12 @@
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.EnumMap;
+import java.util.EnumSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Supplier;
 
 import javax.annotation.Nullable;
@@ -72,7 +74,11 @@ public class CableBusBakedModel implements BakedModel, FabricBakedModel {
     private static final Renderer RENDERER = RendererAccess.INSTANCE.getRenderer();
 
     // The number of meshes overall that will be cached
-    private static final int CACHE_MESH_COUNT = 100;
+    private static final int CACHE_MESH_COUNT = 1000;
+
+    // Statistics about the cable mesh cache, shown on the debug screen. Models are built on multiple threads.
+    private static final LongAdder CACHE_LOOKUPS = new LongAdder();
+    private static final LongAdder CACHE_MISSES = new LongAdder();
 
     /**
      * Lookup table to match the spin of a part with an up direction.
@@ -88,7 +94,7 @@ public class CableBusBakedModel implements BakedModel, FabricBakedModel {
             Direction.UP, Direction.NORTH, Direction.DOWN, Direction.SOUTH // EAST
     };
 
-    private final LoadingCache<CableBusRenderState, Mesh> cableModelCache;
+    private final LoadingCache<CableModelKey, Mesh> cableModelCache;
 
     private final CableBuilder cableBuilder;
 
@@ -106,10 +112,11 @@ public class CableBusBakedModel implements BakedModel, FabricBakedModel {
         this.particleTexture = particleTexture;
         this.cableModelCache = CacheBuilder.newBuilder()//
                 .maximumSize(CACHE_MESH_COUNT)//
-                .build(new CacheLoader<CableBusRenderState, Mesh>() {
+                .build(new CacheLoader<CableModelKey, Mesh>() {
                     @Override
-                    public Mesh load(CableBusRenderState renderState) {
-                        Mesh mesh = buildCableModel(renderState);
+                    public Mesh load(CableModelKey key) {
+                        CACHE_MISSES.increment();
+                        Mesh mesh = buildCableModel(key);
                         return mesh != null ? mesh : EMPTY_MESH;
                     }
                 });
@@ -142,7 +149,8 @@ public void emitBlockQuads(BlockAndTintGetter blockView, BlockState state, Block
         }
 
         // First, handle the cable at the center of the cable bus
-        final Mesh cableModel = cableModelCache.getUnchecked(renderState);
+        CACHE_LOOKUPS.increment();
+        final Mesh cableModel = cableModelCache.getUnchecked(CableModelKey.of(renderState));
         if (cableModel != EMPTY_MESH) {
             context.meshConsumer().accept(cableModel);
         }
@@ -218,14 +226,14 @@ private static Direction getPartSpin(Direction facing, Object partModelData) {
         return Direction.UP;
     }
 
-    private Mesh buildCableModel(CableBusRenderState renderState) {
-        AECableType cableType = renderState.getCableType();
+    private Mesh buildCableModel(CableModelKey key) {
+        AECableType cableType = key.cableType();
         if (cableType == AECableType.NONE) {
             return null;
         }
 
-        AEColor cableColor = renderState.getCableColor();
-        EnumMap<Direction, AECableType> connectionTypes = renderState.getConnectionTypes();
+        AEColor cableColor = key.cableColor();
+        EnumMap<Direction, AECableType> connectionTypes = key.connectionTypes();
 
         MeshBuilder builder = RENDERER.meshBuilder();
         QuadEmitter emitter = builder.getEmitter();
@@ -233,9 +241,7 @@ private Mesh buildCableModel(CableBusRenderState renderState) {
         // If the connection is straight, no busses are attached, and no covered core
         // has been forced (in case of glass
         // cables), then render the cable as a simplified straight line.
-        boolean noAttachments = !renderState.getAttachments().values().stream()
-                .anyMatch(IPartModel::requireCableConnection);
-        if (noAttachments && isStraightLine(cableType, connectionTypes)) {
+        if (key.noAttachments() && isStraightLine(cableType, connectionTypes)) {
             Direction facing = connectionTypes.keySet().iterator().next();
 
             switch (cableType) {
@@ -247,14 +253,14 @@ private Mesh buildCableModel(CableBusRenderState renderState) {
                     break;
                 case SMART:
                     this.cableBuilder.addStraightSmartConnection(facing, cableColor,
-                            renderState.getChannelsOnSide().get(facing), emitter);
+                            key.channelsOnSide().get(facing), emitter);
                     break;
                 case DENSE_COVERED:
                     this.cableBuilder.addStraightDenseCoveredConnection(facing, cableColor, emitter);
                     break;
                 case DENSE_SMART:
                     this.cableBuilder.addStraightDenseSmartConnection(facing, cableColor,
-                            renderState.getChannelsOnSide().get(facing), emitter);
+                            key.channelsOnSide().get(facing), emitter);
                     break;
                 default:
                     break;
@@ -263,13 +269,13 @@ private Mesh buildCableModel(CableBusRenderState renderState) {
             return builder.build(); // Don't render the other form of connection
         }
 
-        this.cableBuilder.addCableCore(renderState.getCoreType(), cableColor, emitter);
+        this.cableBuilder.addCableCore(key.coreType(), cableColor, emitter);
 
         // Render all internal connections to attachments
-        EnumMap<Direction, Integer> attachmentConnections = renderState.getAttachmentConnections();
+        EnumMap<Direction, Integer> attachmentConnections = key.attachmentConnections();
         for (Direction facing : attachmentConnections.keySet()) {
             int distance = attachmentConnections.get(facing);
-            int channels = renderState.getChannelsOnSide().get(facing);
+            int channels = key.channelsOnSide().get(facing);
 
             switch (cableType) {
                 case GLASS:
@@ -294,8 +300,8 @@ private Mesh buildCableModel(CableBusRenderState renderState) {
         for (Entry<Direction, AECableType> connection : connectionTypes.entrySet()) {
             final Direction facing = connection.getKey();
             final AECableType connectionType = connection.getValue();
-            final boolean cableBusAdjacent = renderState.getCableBusAdjacent().contains(facing);
-            final int channels = renderState.getChannelsOnSide().get(facing);
+            final boolean cableBusAdjacent = key.cableBusAdjacent().contains(facing);
+            final int channels = key.channelsOnSide().get(facing);
 
             switch (cableType) {
                 case GLASS:
@@ -325,6 +331,64 @@ private Mesh buildCableModel(CableBusRenderState renderState) {
         return builder.build();
     }
 
+    /**
+     * @return A line of statistics about the cable mesh cache for the debug screen.
+     */
+    public static String getCacheStatistics() {
+        long lookups = CACHE_LOOKUPS.sum();
+        long misses = CACHE_MISSES.sum();
+        long hits = Math.max(0, lookups - misses);
+        long hitRate = lookups > 0 ? hits * 100 / lookups : 0;
+        return "AE2 cable meshes: " + hits + " hits, " + misses + " misses (" + hitRate + "%)";
+    }
+
+    /**
+     * The properties of a {@link CableBusRenderState} that affect the cable mesh built by
+     * {@link #buildCableModel(CableModelKey)}. Part model data and facades are not part of it, and channel counts are
+     * only included for smart cables, so that cable buses that only differ in their parts share the same mesh.
+     */
+    private record CableModelKey(AECableType cableType,
+            CableCoreType coreType,
+            AEColor cableColor,
+            boolean noAttachments,
+            EnumMap<Direction, AECableType> connectionTypes,
+            EnumSet<Direction> cableBusAdjacent,
+            EnumMap<Direction, Integer> channelsOnSide,
+            EnumMap<Direction, Integer> attachmentConnections) {
+
+        /**
+         * Shared by all cables that don't show channels. The mesh builder still reads the channels of every side.
+         */
+        private static final EnumMap<Direction, Integer> NO_CHANNELS = new EnumMap<>(Direction.class);
+
+        static {
+            for (var side : Direction.values()) {
+                NO_CHANNELS.put(side, 0);
+            }
+        }
+
+        static CableModelKey of(CableBusRenderState renderState) {
+            var cableType = renderState.getCableType();
+            var showsChannels = cableType == AECableType.SMART || cableType == AECableType.DENSE_SMART;
+            boolean noAttachments = true;
+            for (var attachment : renderState.getAttachments().values()) {
+                if (attachment.requireCableConnection()) {
+                    noAttachments = false;
+                    break;
+                }
+            }
+            return new CableModelKey(
+                    cableType,
+                    renderState.getCoreType(),
+                    renderState.getCableColor(),
+                    noAttachments,
+                    renderState.getConnectionTypes(),
+                    renderState.getCableBusAdjacent(),
+                    showsChannels ? renderState.getChannelsOnSide() : NO_CHANNELS,
+                    renderState.getAttachmentConnections());
+        }
+    }
+
     /**
      * Gets a list of texture sprites appropriate for particles (digging, etc.) given the render state for a cable bus.
      */
@@ -30,6 +30,9 @@
 
 import javax.annotation.Nullable;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
 import net.fabricmc.fabric.api.renderer.v1.Renderer;
 import net.fabricmc.fabric.api.renderer.v1.RendererAccess;
 import net.fabricmc.fabric.api.renderer.v1.mesh.Mesh;
@@ -43,12 +46,14 @@
 import net.minecraft.client.resources.model.BakedModel;
 import net.minecraft.client.resources.model.BlockModelRotation;
 import net.minecraft.client.resources.model.ModelBakery;
+import net.minecraft.client.resources.model.WeightedBakedModel;
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.Direction;
 import net.minecraft.core.Direction.Axis;
 import net.minecraft.resources.ResourceLocation;
 import net.minecraft.util.RandomSource;
 import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.level.block.Block;
 import net.minecraft.world.level.block.state.BlockState;
 import net.minecraft.world.phys.AABB;
 
@@ -94,6 +99,17 @@ public class FacadeBuilder {
 
     private final Map<Direction, Mesh> cableAnchorStilts;
 
+    // The number of clipped facade meshes that will be cached
+    private static final int CACHE_MESH_COUNT = 1000;
+
+    /**
+     * Clipping a facade block's quads against neighboring facades and parts is expensive, and walls of facades
+     * usually share the same few configurations.
+     */
+    private final Cache<FacadeMeshKey, Mesh> facadeMeshCache = CacheBuilder.newBuilder()
+            .maximumSize(CACHE_MESH_COUNT)
+            .build();
+
     public FacadeBuilder(ModelBakery modelLoader, @Nullable BakedModel transparentFacadeModel) {
         cableAnchorStilts = buildCableAnchorStems(modelLoader);
 
@@ -188,11 +204,50 @@ public Mesh getFacadeMesh(CableBusRenderState renderState, Supplier<RandomSource
         MeshBuilder meshBuilder = renderer.meshBuilder();
         QuadEmitter emitter = meshBuilder.getEmitter();
 
+        // Determine the clipped geometry of every facade up front, since whether the facades enclose the whole block
+        // depends on all of them.
+        Map<Direction, FacadeMeshKey> facadeKeys = new EnumMap<>(Direction.class);
+        boolean enclosed = !transparent && facadeStates.size() == Direction.values().length;
+        for (Entry<Direction, FacadeRenderState> entry : facadeStates.entrySet()) {
+            Direction side = entry.getKey();
+            FacadeRenderState facadeRenderState = entry.getValue();
+
+            // calculate the side mask.
+            int facadeMask = 0;
+            for (Entry<Direction, FacadeRenderState> ent : facadeStates.entrySet()) {
+                Direction s = ent.getKey();
+                if (s.getAxis() != side.getAxis()) {
+                    FacadeRenderState otherState = ent.getValue();
+                    if (!otherState.isTransparent()) {
+                        facadeMask |= 1 << s.ordinal();
+                    }
+                }
+            }
+
+            AABB facadeBox = getFacadeBox(side, thinFacades, facadeRenderState.isTransparent(), facadeMask);
+            AEAxisAlignedBB cutOutBox = getCutOutBox(facadeBox, partBoxes);
+            AABB hole = cutOutBox != null ? cutOutBox.getBoundingBox() : null;
+            facadeKeys.put(side, new FacadeMeshKey(facadeRenderState.getSourceBlock(), side, thinFacades,
+                    facadeRenderState.isTransparent(), facadeMask, hole));
+
+            if (facadeRenderState.isTransparent() || hole != null) {
+                enclosed = false;
+            }
+        }
+
         for (Entry<Direction, FacadeRenderState> entry : facadeStates.entrySet()) {
             Direction side = entry.getKey();
-            int sideIndex = side.ordinal();
             FacadeRenderState facadeRenderState = entry.getValue();
-            boolean renderStilt = !sidesWithParts.contains(side);
+            BlockState blockState = facadeRenderState.getSourceBlock();
+
+            // When the facades enclose the block, only their outer faces can be seen. If the outer face is hidden by
+            // the neighboring block too, the facade can be skipped entirely.
+            if (enclosed && parentWorld != null
+                    && !Block.shouldRenderFace(blockState, parentWorld, pos, side, pos.relative(side))) {
+                continue;
+            }
+
+            boolean renderStilt = !enclosed && !sidesWithParts.contains(side);
             if (renderStilt) {
                 cableAnchorStilts.get(side).forEach(quad -> {
                     quad.copyTo(emitter);
@@ -211,123 +266,151 @@ public Mesh getFacadeMesh(CableBusRenderState renderState, Supplier<RandomSource
                 continue;
             }
 
-            BlockState blockState = facadeRenderState.getSourceBlock();
             // If we aren't forcing transparency let the block decide if it should render.
 // FIXME FABRIC          if (layer != null && !RenderTypeLookup.canRenderInLayer(blockState, layer)) {
 // FIXME FABRIC              continue;
 // FIXME FABRIC          }
 
-            AABB fullBounds = thinFacades ? THIN_FACADE_BOXES[sideIndex] : THICK_FACADE_BOXES[sideIndex];
-            AABB facadeBox = fullBounds;
-            // If we are a transparent facade, we need to modify out BB.
-            if (facadeRenderState.isTransparent()) {
-                double offset = thinFacades ? THIN_THICKNESS : THICK_THICKNESS;
-                AEAxisAlignedBB tmpBB = null;
-                for (Direction face : Direction.values()) {
-                    // Only faces that aren't on our axis
-                    if (face.getAxis() != side.getAxis()) {
-                        FacadeRenderState otherState = facadeStates.get(face);
-                        if (otherState != null && !otherState.isTransparent()) {
-                            if (tmpBB == null) {
-                                tmpBB = AEAxisAlignedBB.fromBounds(facadeBox);
-                            }
-                            switch (face) {
-                                case DOWN -> tmpBB.minY += offset;
-                                case UP -> tmpBB.maxY -= offset;
-                                case NORTH -> tmpBB.minZ += offset;
-                                case SOUTH -> tmpBB.maxZ -= offset;
-                                case WEST -> tmpBB.minX += offset;
-                                case EAST -> tmpBB.maxX -= offset;
-                                default -> throw new RuntimeException("Switch falloff. " + String.valueOf(face));
-                            }
-                        }
-                    }
-                }
-                if (tmpBB != null) {
-                    facadeBox = tmpBB.getBoundingBox();
-                }
-            }
+            var dispatcher = Minecraft.getInstance().getBlockRenderer();
+            var model = dispatcher.getBlockModel(blockState);
 
-            // calculate the side mask.
-            int facadeMask = 0;
-            for (Entry<Direction, FacadeRenderState> ent : facadeStates.entrySet()) {
-                Direction s = ent.getKey();
-                if (s.getAxis() != side.getAxis()) {
-                    FacadeRenderState otherState = ent.getValue();
-                    if (!otherState.isTransparent()) {
-                        facadeMask |= 1 << s.ordinal();
-                    }
+            var key = facadeKeys.get(side);
+            Mesh facadeMesh;
+            if (model instanceof WeightedBakedModel) {
+                // The quads of weighted models depend on the random source, which is seeded with the position.
+                facadeMesh = buildFacadeMesh(key, model, rand);
+            } else {
+                facadeMesh = facadeMeshCache.getIfPresent(key);
+                if (facadeMesh == null) {
+                    facadeMesh = buildFacadeMesh(key, model, rand);
+                    facadeMeshCache.put(key, facadeMesh);
                 }
             }
 
-            AEAxisAlignedBB cutOutBox = getCutOutBox(facadeBox, partBoxes);
-            List<AABB> holeStrips = getBoxes(facadeBox, cutOutBox, side.getAxis());
+            // The tint depends on the position (i.e. biome colors), so it is applied to the cached quads here
             var facadeAccess = new FacadeBlockAccess(parentWorld, pos, side, blockState);
+            facadeMesh.forEach(quad -> {
+                quad.copyTo(emitter);
+                if (emitter.colorIndex() != -1) {
+                    new QuadTinter(blockColors.getColor(blockState, facadeAccess, pos, emitter.colorIndex()))
+                            .transform(emitter);
+                    // Already tinted, the renderer must not tint it again using the cable bus colors
+                    emitter.colorIndex(-1);
+                }
+                emitter.emit();
+            });
+        }
 
-            var dispatcher = Minecraft.getInstance().getBlockRenderer();
-            var model = dispatcher.getBlockModel(blockState);
-
-            QuadFaceStripper faceStripper = new QuadFaceStripper(fullBounds, facadeMask);
-            // Setup the kicker.
-            QuadCornerKicker kicker = new QuadCornerKicker();
-            kicker.setSide(sideIndex);
-            kicker.setFacadeMask(facadeMask);
-            kicker.setBox(fullBounds);
-            kicker.setThickness(thinFacades ? THIN_THICKNESS : THICK_THICKNESS);
+        return meshBuilder.build();
 
-            QuadReInterpolator interpolator = new QuadReInterpolator();
+    }
 
-            for (int cullFaceIdx = 0; cullFaceIdx <= ModelHelper.NULL_FACE_ID; cullFaceIdx++) {
-                Direction cullFace = ModelHelper.faceFromIndex(cullFaceIdx);
-                List<BakedQuad> quads = model.getQuads(blockState, cullFace, rand.get());
+    /**
+     * Clips the quads of a facade's block model to the facade's box. The resulting quads still carry their tint index,
+     * which needs to be applied when they are emitted for a specific position.
+     */
+    private Mesh buildFacadeMesh(FacadeMeshKey key, BakedModel model, Supplier<RandomSource> rand) {
+        MeshBuilder meshBuilder = renderer.meshBuilder();
+        QuadEmitter emitter = meshBuilder.getEmitter();
 
-                for (BakedQuad quad : quads) {
-                    QuadTinter quadTinter = null;
+        Direction side = key.side();
+        int sideIndex = side.ordinal();
+        boolean thinFacades = key.thinFacades();
+        int facadeMask = key.facadeMask();
 
-                    // Prebake the color tint into the quad
-                    if (quad.getTintIndex() != -1) {
-                        quadTinter = new QuadTinter(
-                                blockColors.getColor(blockState, facadeAccess, pos, quad.getTintIndex()));
-                    }
+        AABB fullBounds = thinFacades ? THIN_FACADE_BOXES[sideIndex] : THICK_FACADE_BOXES[sideIndex];
+        AABB facadeBox = getFacadeBox(side, thinFacades, key.transparent(), facadeMask);
+        List<AABB> holeStrips = getBoxes(facadeBox, key.hole(), side.getAxis());
 
-                    for (AABB box : holeStrips) {
-                        emitter.fromVanilla(quad.getVertices(), 0, false);
-                        // Keep the cull-face for faces that are flush with the outer block-face on the
-                        // side the facade is attached to, but clear it for anything that faces inwards
-                        emitter.cullFace(cullFace == side ? side : null);
-                        emitter.nominalFace(quad.getDirection());
-                        interpolator.setInputQuad(emitter);
+        QuadFaceStripper faceStripper = new QuadFaceStripper(fullBounds, facadeMask);
+        // Setup the kicker.
+        QuadCornerKicker kicker = new QuadCornerKicker();
+        kicker.setSide(sideIndex);
+        kicker.setFacadeMask(facadeMask);
+        kicker.setBox(fullBounds);
+        kicker.setThickness(thinFacades ? THIN_THICKNESS : THICK_THICKNESS);
 
-                        QuadClamper clamper = new QuadClamper(box);
-                        if (!clamper.transform(emitter)) {
-                            continue;
-                        }
+        QuadReInterpolator interpolator = new QuadReInterpolator();
 
-                        // Strips faces if they match a mask.
-                        if (!faceStripper.transform(emitter)) {
-                            continue;
-                        }
+        for (int cullFaceIdx = 0; cullFaceIdx <= ModelHelper.NULL_FACE_ID; cullFaceIdx++) {
+            Direction cullFace = ModelHelper.faceFromIndex(cullFaceIdx);
+            List<BakedQuad> quads = model.getQuads(key.blockState(), cullFace, rand.get());
 
-                        // Kicks the edge inner corners in, solves Z fighting
-                        if (!kicker.transform(emitter)) {
-                            continue;
-                        }
+            for (BakedQuad quad : quads) {
+                for (AABB box : holeStrips) {
+                    emitter.fromVanilla(quad.getVertices(), 0, false);
+                    // Keep the cull-face for faces that are flush with the outer block-face on the
+                    // side the facade is attached to, but clear it for anything that faces inwards
+                    emitter.cullFace(cullFace == side ? side : null);
+                    emitter.nominalFace(quad.getDirection());
+                    interpolator.setInputQuad(emitter);
 
-                        interpolator.transform(emitter);
+                    QuadClamper clamper = new QuadClamper(box);
+                    if (!clamper.transform(emitter)) {
+                        continue;
+                    }
 
-                        // Tints the quad if we need it to. Disabled by default.
-                        if (quadTinter != null) {
-                            quadTinter.transform(emitter);
-                        }
+                    // Strips faces if they match a mask.
+                    if (!faceStripper.transform(emitter)) {
+                        continue;
+                    }
 
-                        emitter.emit();
+                    // Kicks the edge inner corners in, solves Z fighting
+                    if (!kicker.transform(emitter)) {
+                        continue;
                     }
+
+                    interpolator.transform(emitter);
+
+                    // Remember the tint index, the tint is applied when the quad is emitted.
+                    emitter.colorIndex(quad.getTintIndex());
+
+                    emitter.emit();
                 }
             }
         }
 
         return meshBuilder.build();
+    }
 
+    /**
+     * Returns the box occupied by a facade. Transparent facades are shortened so they don't overlap the solid facades
+     * on the sides given by the facade mask.
+     */
+    private static AABB getFacadeBox(Direction side, boolean thinFacades, boolean transparentFacade,
+            int facadeMask) {
+        AABB fullBounds = thinFacades ? THIN_FACADE_BOXES[side.ordinal()] : THICK_FACADE_BOXES[side.ordinal()];
+        // If we are a transparent facade, we need to modify out BB.
+        if (!transparentFacade || facadeMask == 0) {
+            return fullBounds;
+        }
+
+        double offset = thinFacades ? THIN_THICKNESS : THICK_THICKNESS;
+        AEAxisAlignedBB tmpBB = AEAxisAlignedBB.fromBounds(fullBounds);
+        for (Direction face : Direction.values()) {
+            if ((facadeMask & 1 << face.ordinal()) != 0) {
+                switch (face) {
+                    case DOWN -> tmpBB.minY += offset;
+                    case UP -> tmpBB.maxY -= offset;
+                    case NORTH -> tmpBB.minZ += offset;
+                    case SOUTH -> tmpBB.maxZ -= offset;
+                    case WEST -> tmpBB.minX += offset;
+                    case EAST -> tmpBB.maxX -= offset;
+                    default -> throw new RuntimeException("Switch falloff. " + String.valueOf(face));
+                }
+            }
+        }
+        return tmpBB.getBoundingBox();
+    }
+
+    /**
+     * Everything the clipped quads of a facade depend on, aside from the facade block's model itself.
+     *
+     * @param facadeMask The sides that have a solid facade, excluding the facade's own axis.
+     * @param hole       The box cut out of the facade for parts poking through it, or null.
+     */
+    private record FacadeMeshKey(BlockState blockState, Direction side, boolean thinFacades, boolean transparent,
+            int facadeMask, @Nullable AABB hole) {
     }
 
     /**
@@ -416,7 +499,7 @@ private static AEAxisAlignedBB getCutOutBox(AABB facadeBox, List<AABB> partBoxes
      * @param axis The axis the facade is on.
      * @return The box segments.
      */
-    private static List<AABB> getBoxes(AABB fb, AEAxisAlignedBB hole, Axis axis) {
+    private static List<AABB> getBoxes(AABB fb, @Nullable AABB hole, Axis axis) {
         if (hole == null) {
             return Collections.singletonList(fb);
         }
@@ -128,6 +128,8 @@ private static void makeBackupAndReset(Path configFolder, String configFile) {
     private boolean isEnableFacadeRecipesInJEI;
     private int craftingCalculationTimePerTick;
     private boolean craftingSimulatedExtraction;
+    private int blockEntityReadyTimePerTick;
+    private int deviceTickTimePerTick;
 
     // Spatial IO/Dimension
     private double spatialPowerExponent;
@@ -199,6 +201,8 @@ private void syncCommonConfig() {
 
         this.craftingCalculationTimePerTick = COMMON.craftingCalculationTimePerTick.get();
         this.craftingSimulatedExtraction = COMMON.craftingSimulatedExtraction.get();
+        this.blockEntityReadyTimePerTick = COMMON.blockEntityReadyTimePerTick.get();
+        this.deviceTickTimePerTick = COMMON.deviceTickTimePerTick.get();
 
         AELog.setCraftingLogEnabled(COMMON.craftingLog.get());
         AELog.setDebugLogEnabled(COMMON.debugLog.get());
@@ -341,6 +345,14 @@ public int getCraftingCalculationTimePerTick() {
         return this.craftingCalculationTimePerTick;
     }
 
+    public int getBlockEntityReadyTimePerTick() {
+        return this.blockEntityReadyTimePerTick;
+    }
+
+    public int getDeviceTickTimePerTick() {
+        return this.deviceTickTimePerTick;
+    }
+
     public boolean isCraftingSimulatedExtraction() {
         return this.craftingSimulatedExtraction;
     }
@@ -437,10 +449,6 @@ public void setChannelModel(ChannelMode mode) {
         COMMON.channels.set(mode);
     }
 
-    public int getPathfindingStepsPerTick() {
-        return COMMON.pathfindingStepsPerTick.get();
-    }
-
     /**
      * @return True if an in-world preview of parts and facade placement should be shown when holding one in hand.
      */
@@ -614,7 +622,8 @@ private static class CommonConfig {
         public final BooleanOption tinyTntBlockDamage;
         public final BooleanOption serverOpsIgnoreSecurity;
         public final EnumOption<ChannelMode> channels;
-        public final IntegerOption pathfindingStepsPerTick;
+        public final IntegerOption blockEntityReadyTimePerTick;
+        public final IntegerOption deviceTickTimePerTick;
 
         public final BooleanOption disassemblyCrafting;
         public final IntegerOption growthAcceleratorSpeed;
@@ -687,9 +696,10 @@ public CommonConfig(ConfigSection root) {
                     "Server operators are not restricted by ME security terminal settings.");
             channels = general.addEnum("channels", ChannelMode.DEFAULT,
                     "Changes the channel capacity that cables provide in AE2.");
-            pathfindingStepsPerTick = general.addInt("pathfindingStepsPerTick", 4,
-                    1, 1024,
-                    "The number of pathfinding steps that are taken per tick and per grid that is booting. Lower numbers will mean booting takes longer, but less work is done per tick.");
+            blockEntityReadyTimePerTick = general.addInt("blockEntityReadyTimePerTick", 10, 1, 1000,
+                    "The maximum time in milliseconds that is spent per tick and level on connecting newly loaded AE2 blocks to their networks. Blocks that don't fit into this budget are connected in the following ticks, starting with controllers.");
+            deviceTickTimePerTick = general.addInt("deviceTickTimePerTick", 20, 1, 1000,
+                    "The maximum time in milliseconds that is spent per tick on ticking the devices (i.e. buses and interfaces) of all networks. The time is shared between levels and networks, and devices that don't fit into it are ticked in the following ticks. Time spent on network services (i.e. storage and crafting) does not count against it. Every network ticks at least one device per tick.");
 
             ConfigSection automation = root.subsection("automation");
             formationPlaneEntityLimit = automation.addInt("formationPlaneEntityLimit", 128);
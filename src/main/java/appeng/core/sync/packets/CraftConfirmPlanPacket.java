@@ -28,28 +28,41 @@
 import appeng.menu.me.crafting.CraftingPlanSummary;
 
 /**
- * Transfers a {@link CraftingPlanSummary} to the client for a {@link CraftConfirmMenu}
+ * Transfers a page of a {@link CraftingPlanSummary} to the client for a {@link CraftConfirmMenu}. Large plans are
+ * split across multiple packets, which are sent over consecutive ticks.
  */
 public class CraftConfirmPlanPacket extends BasePacket {
-    private final CraftingPlanSummary plan;
+    /**
+     * Approximate limit for the serialized entries in a single packet.
+     */
+    private static final int PAGE_BYTE_LIMIT = 64 * 1024;
+
+    private CraftingPlanSummary.Page page;
+
+    private int nextEntry;
 
     public CraftConfirmPlanPacket(FriendlyByteBuf data) {
-        this.plan = CraftingPlanSummary.read(data);
+        this.page = CraftingPlanSummary.readPage(data);
     }
 
-    public CraftConfirmPlanPacket(CraftingPlanSummary plan) {
-        this.plan = plan;
-
+    public CraftConfirmPlanPacket(CraftingPlanSummary plan, int firstEntry) {
         FriendlyByteBuf data = new FriendlyByteBuf(Unpooled.buffer());
         data.writeInt(getPacketID());
-        plan.write(data);
+        this.nextEntry = plan.writePage(data, firstEntry, PAGE_BYTE_LIMIT);
         configureWrite(data);
     }
 
+    /**
+     * @return The index of the first plan entry that did not fit into this packet.
+     */
+    public int getNextEntry() {
+        return nextEntry;
+    }
+
     @Override
     public void clientPacketData(Player player) {
         if (player.containerMenu instanceof CraftConfirmMenu menu) {
-            menu.setPlan(plan);
+            menu.setPlan(page.applyTo(menu.getPlan()));
         }
     }
 }
@@ -46,9 +46,10 @@
 public class MEInventoryUpdatePacket extends BasePacket {
 
     /**
-     * Maximum size of a single packet before it will be flushed forcibly.
+     * Maximum size of a single packet before it will be flushed forcibly. This has to stay well below the hard limit
+     * enforced by {@link BasePacket#getPayload()}.
      */
-    private static final int UNCOMPRESSED_PACKET_BYTE_LIMIT = 512 * 1024 * 1024;
+    private static final int UNCOMPRESSED_PACKET_BYTE_LIMIT = 512 * 1024;
 
     /**
      * Initial buffer size for an update packet.
@@ -127,7 +128,7 @@ public void addFull(IncrementalUpdateHelper updateHelper,
                 }
 
                 long serial = updateHelper.getOrAssignSerial(key);
-                add(new GridInventoryEntry(
+                add(updateHelper, key, new GridInventoryEntry(
                         serial,
                         key,
                         networkStorage.get(key),
@@ -164,23 +165,38 @@ public void addChanges(IncrementalUpdateHelper updateHelper,
                 var craftable = craftables.contains(key);
                 var requestable = requestables.get(key);
                 if (storedAmount <= 0 && requestable <= 0 && !craftable) {
-                    // This happens when an update is queued but the item is no longer stored
-                    add(new GridInventoryEntry(serial, sendKey, 0, 0, false));
-                    updateHelper.removeSerial(key);
+                    // This happens when an update is queued but the item is no longer stored.
+                    // The serial is retired rather than removed, since the client remembers the keys of recently
+                    // retired serials, which allows us to omit the key if the item is stored again soon.
+                    add(updateHelper, key, new GridInventoryEntry(serial, sendKey, 0, 0, false));
                 } else {
-                    add(new GridInventoryEntry(serial, sendKey, storedAmount, requestable, craftable));
+                    add(updateHelper, key, new GridInventoryEntry(serial, sendKey, storedAmount, requestable,
+                            craftable));
                 }
             }
 
             updateHelper.commitChanges();
         }
 
+        /**
+         * Adds an entry and retires or revives its serial. The client does the same for every entry it receives, so
+         * both sides retire serials in the same order.
+         */
+        private void add(IncrementalUpdateHelper updateHelper, AEKey key, GridInventoryEntry entry) {
+            add(entry);
+            if (entry.isMeaningful()) {
+                updateHelper.reviveSerial(key);
+            } else {
+                updateHelper.retireSerial(key);
+            }
+        }
+
         public void add(GridInventoryEntry entry) {
             FriendlyByteBuf data = ensureData();
 
             // This should only error out if the entire packet exceeds about 2 megabytes of memory,
             // if any item writes that much junk to a share tag, it's acceptable to crash.
-            // We'll normaly flush much much earlier (32k)
+            // We'll normaly flush much much earlier (512k)
             writeEntry(data, entry);
 
             ++itemCount;
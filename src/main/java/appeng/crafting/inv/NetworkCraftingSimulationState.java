@@ -31,21 +31,34 @@
 import appeng.api.stacks.AEKey;
 import appeng.api.stacks.KeyCounter;
 import appeng.core.AEConfig;
+import appeng.me.service.StorageService;
 
 /**
  * Currently, extracts the whole network contents when the job starts. Lazily extracting is unfortunately not possible
  * as long as the crafting simulation operates from a separate thread: any world access from this thread will deadlock
  * the server.
+ * <p/>
+ * Unless simulated extraction is enabled, the network contents are not copied for every calculation. Instead, all
+ * calculations share a read-only snapshot of the cached network inventory, which is only recreated once the network
+ * inventory changes.
  */
 public class NetworkCraftingSimulationState extends CraftingSimulationState {
-    private final KeyCounter list = new KeyCounter();
+    private final KeyCounter list;
 
     public NetworkCraftingSimulationState(IStorageService storage, @Nullable IActionSource src) {
         // Take care of the edge case where ICraftingSimulationRequester#getActionSource() returns null.
         if (src == null) {
+            this.list = new KeyCounter();
             return;
         }
 
+        if (!AEConfig.instance().isCraftingSimulatedExtraction() && storage instanceof StorageService storageService) {
+            // Must never be modified, since it's shared with other calculations.
+            this.list = storageService.getCachedInventorySnapshot();
+            return;
+        }
+
+        this.list = new KeyCounter();
         for (var stack : storage.getCachedInventory()) {
             long networkAmount = AEConfig.instance().isCraftingSimulatedExtraction()
                     ? storage.getInventory().extract(stack.getKey(), stack.getLongValue(), Actionable.SIMULATE, src)
@@ -18,9 +18,12 @@
 
 package appeng.crafting.pattern;
 
+import java.util.Collections;
 import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 import javax.annotation.Nullable;
 
@@ -36,6 +39,7 @@
 import net.minecraft.world.item.crafting.Ingredient;
 import net.minecraft.world.item.crafting.RecipeType;
 import net.minecraft.world.item.crafting.ShapedRecipe;
+import net.minecraft.world.item.crafting.ShapelessRecipe;
 import net.minecraft.world.level.Level;
 
 import appeng.api.crafting.IPatternDetails;
@@ -52,6 +56,7 @@
 public class AECraftingPattern implements IPatternDetails, IMolecularAssemblerSupportedPattern {
     public static final int CRAFTING_GRID_DIMENSION = 3;
     public static final int CRAFTING_GRID_SLOTS = CRAFTING_GRID_DIMENSION * CRAFTING_GRID_DIMENSION;
+    private static final int NBT_VALID_CACHE_SIZE = 32;
 
     private final AEItemKey definition;
     public final boolean canSubstitute;
@@ -69,6 +74,19 @@ public class AECraftingPattern implements IPatternDetails, IMolecularAssemblerSu
      */
     @SuppressWarnings("unchecked")
     private final Map<Item, Boolean>[] isValidCache = new Map[9];
+    /**
+     * Results of isValid(...) calls for stacks with NBT are cached too, but only for the most recently tested keys
+     * since there can be an unbounded number of them.
+     */
+    @SuppressWarnings("unchecked")
+    private final Map<AEItemKey, Boolean>[] isValidNbtCache = new Map[9];
+    /**
+     * For plain shaped and shapeless recipes, this contains every item that matches any of the recipe's ingredients.
+     * Items that are not in this set can never make the recipe match, which lets us reject them without testing the
+     * recipe. Null if the recipe might use custom matching logic.
+     */
+    @Nullable
+    private final Set<Item> ingredientItems;
 
     public AECraftingPattern(AEItemKey definition, Level level) {
         this.definition = definition;
@@ -100,6 +118,7 @@ public AECraftingPattern(AEItemKey definition, Level level) {
             throw new IllegalStateException("The recipe " + recipeId + " produced an empty item stack result.");
         }
         this.outputsArray = new GenericStack[] { Objects.requireNonNull(GenericStack.fromItemStack(this.output)) };
+        this.ingredientItems = collectIngredientItems(this.recipe);
 
         // Compress inputs
         var condensedInputs = AEPatternHelper.condenseStacks(sparseInputs);
@@ -121,6 +140,23 @@ public AECraftingPattern(AEItemKey definition, Level level) {
         }
     }
 
+    @Nullable
+    private static Set<Item> collectIngredientItems(CraftingRecipe recipe) {
+        // Subclasses and special recipes may match in ways that are not described by their ingredients
+        if (recipe.isSpecial()
+                || recipe.getClass() != ShapedRecipe.class && recipe.getClass() != ShapelessRecipe.class) {
+            return null;
+        }
+
+        var items = Collections.newSetFromMap(new IdentityHashMap<Item, Boolean>());
+        for (var ingredient : recipe.getIngredients()) {
+            for (var stack : ingredient.getItems()) {
+                items.add(stack.getItem());
+            }
+        }
+        return items;
+    }
+
     @Override
     public int hashCode() {
         return definition.hashCode();
@@ -234,8 +270,9 @@ public GenericStack getValidFluid(int slot) {
         return null;
     }
 
+    // Decoded patterns are shared between crafting calculations and the server thread, which both use the test frame.
     @Override
-    public boolean isItemValid(int slot, AEItemKey key, Level level) {
+    public synchronized boolean isItemValid(int slot, AEItemKey key, Level level) {
         if (!canSubstitute) {
             return sparseInputs[slot] == null && key == null
                     || sparseInputs[slot] != null && sparseInputs[slot].what().equals(key);
@@ -250,6 +287,11 @@ public boolean isItemValid(int slot, AEItemKey key, Level level) {
             return result;
         }
 
+        if (ingredientItems != null && !ingredientItems.contains(key.getItem())) {
+            setTestResult(slot, key, false);
+            return false;
+        }
+
         // Fill frame and check result
         var previousStack = testFrame.removeItemNoUpdate(slot);
         testFrame.setItem(slot, key.toStack());
@@ -269,7 +311,7 @@ public boolean isSlotEnabled(int slot) {
         return sparseInputs[slot] != null;
     }
 
-    private ItemStack getRecipeRemainder(int slot, AEItemKey key) {
+    private synchronized ItemStack getRecipeRemainder(int slot, AEItemKey key) {
         // Note: no need to call assemble again since we can assume that the item is valid!
         // Consider making this more efficient in the future? (e.g. cache the produced remainders)
 
@@ -291,9 +333,13 @@ private ItemStack getRecipeRemainder(int slot, AEItemKey key) {
      */
     @Nullable
     private Boolean getTestResult(int slot, AEItemKey what) {
-        if (what == null || what.hasTag()) {
+        if (what == null) {
             return null;
         }
+        if (what.hasTag()) {
+            var nbtCache = isValidNbtCache[slot];
+            return nbtCache != null ? nbtCache.get(what) : null;
+        }
         var cache = isValidCache[slot];
         if (cache == null) {
             return null;
@@ -303,7 +349,18 @@ private Boolean getTestResult(int slot, AEItemKey what) {
     }
 
     private void setTestResult(int slot, AEItemKey what, boolean result) {
-        if (what != null && !what.hasTag()) {
+        if (what != null && what.hasTag()) {
+            var nbtCache = isValidNbtCache[slot];
+            if (nbtCache == null) {
+                nbtCache = isValidNbtCache[slot] = new LinkedHashMap<AEItemKey, Boolean>(16, 0.75f, true) {
+                    @Override
+                    protected boolean removeEldestEntry(Map.Entry<AEItemKey, Boolean> eldest) {
+                        return size() > NBT_VALID_CACHE_SIZE;
+                    }
+                };
+            }
+            nbtCache.put(what, result);
+        } else if (what != null) {
             var cache = isValidCache[slot];
             if (cache == null) {
                 cache = isValidCache[slot] = new IdentityHashMap<>();
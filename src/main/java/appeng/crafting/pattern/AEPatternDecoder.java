@@ -20,7 +20,12 @@
 
 import javax.annotation.Nullable;
 
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+
+import net.fabricmc.fabric.api.event.lifecycle.v1.ServerLifecycleEvents;
 import net.minecraft.world.item.ItemStack;
+import net.minecraft.world.item.crafting.RecipeManager;
 import net.minecraft.world.level.Level;
 
 import appeng.api.crafting.IPatternDetails;
@@ -30,6 +35,24 @@
 public class AEPatternDecoder implements IPatternDetailsDecoder {
     public static final AEPatternDecoder INSTANCE = new AEPatternDecoder();
 
+    /**
+     * Decoded patterns are immutable and only depend on the recipes that are loaded. Since decoding crafting patterns
+     * requires looking up and testing their recipe, we share the decoded patterns between all users on the server
+     * (pattern providers, assemblers, crafting jobs) and decode each distinct pattern only once.
+     */
+    private static final Cache<AEItemKey, DecodedPattern> SERVER_CACHE = CacheBuilder.newBuilder()
+            .softValues()
+            .build();
+
+    static {
+        ServerLifecycleEvents.SERVER_STOPPED.register(server -> clearCache());
+        ServerLifecycleEvents.END_DATA_PACK_RELOAD.register((server, resourceManager, success) -> clearCache());
+    }
+
+    private static void clearCache() {
+        SERVER_CACHE.invalidateAll();
+    }
+
     @Override
     public boolean isEncodedPattern(ItemStack stack) {
         return stack.getItem() instanceof EncodedPatternItem;
@@ -42,7 +65,18 @@ public IPatternDetails decodePattern(AEItemKey what, Level level) {
             return null;
         }
 
-        return encodedPatternItem.decode(what, level);
+        if (level.isClientSide()) {
+            return encodedPatternItem.decode(what, level);
+        }
+
+        // The recipe manager is replaced when recipes are reloaded, which makes entries decoded with an older one stale
+        var recipeManager = level.getRecipeManager();
+        var cached = SERVER_CACHE.getIfPresent(what);
+        if (cached == null || cached.recipeManager != recipeManager) {
+            cached = new DecodedPattern(recipeManager, encodedPatternItem.decode(what, level));
+            SERVER_CACHE.put(what, cached);
+        }
+        return cached.details;
     }
 
     @Nullable
@@ -52,6 +86,17 @@ public IPatternDetails decodePattern(ItemStack what, Level level, boolean tryRec
             return null;
         }
 
+        if (!tryRecovery) {
+            var key = AEItemKey.of(what);
+            return key != null ? decodePattern(key, level) : null;
+        }
+
         return encodedPatternItem.decode(what, level, tryRecovery);
     }
+
+    /**
+     * @param details Null if the pattern could not be decoded.
+     */
+    private record DecodedPattern(RecipeManager recipeManager, @Nullable IPatternDetails details) {
+    }
 }
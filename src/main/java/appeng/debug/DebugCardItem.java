@@ -88,6 +88,11 @@ public InteractionResultHolder<ItemStack> use(Level level, Player player, Intera
             outputMessage(player, "Ticking", ChatFormatting.BOLD);
             this.outputSecondaryMessage(player, "Current Tick: ",
                     Long.toString(TickHandler.instance().getCurrentTick()));
+            this.outputSecondaryMessage(player, "Queued Block Entities: ",
+                    Integer.toString(TickHandler.instance().getQueuedBlockEntityCount()));
+            this.outputSecondaryMessage(player, "Readied Last Tick: ",
+                    TickHandler.instance().getLastBlockEntitiesReadied() + " in "
+                            + Platform.formatTimeMeasurement(TickHandler.instance().getLastBlockEntityReadyTime()));
             for (var line : TickHandler.instance().getBlockEntityReport()) {
                 player.sendSystemMessage(line);
             }
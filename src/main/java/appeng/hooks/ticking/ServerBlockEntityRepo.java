@@ -18,11 +18,14 @@
 
 package appeng.hooks.ticking;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Consumer;
 
+import javax.annotation.Nullable;
+
 import net.minecraft.ChatFormatting;
 import net.minecraft.network.chat.Component;
 import net.minecraft.server.level.ServerLevel;
@@ -44,14 +47,44 @@ void callInit() {
         }
     }
 
+    /**
+     * Block entities that were taken from their chunk because it is ready to tick, but that have not been initialized
+     * yet because the time limit was reached. Block entities that are readied first are kept separately, which keeps
+     * the queue in order without having to sort it.
+     */
+    static class ReadyQueue {
+        private final ArrayDeque<FirstTickInfo<?>> first = new ArrayDeque<>();
+        private final ArrayDeque<FirstTickInfo<?>> rest = new ArrayDeque<>();
+
+        void add(FirstTickInfo<?> info, boolean readyFirst) {
+            (readyFirst ? first : rest).add(info);
+        }
+
+        @Nullable
+        FirstTickInfo<?> poll() {
+            var info = first.poll();
+            return info != null ? info : rest.poll();
+        }
+
+        boolean isEmpty() {
+            return first.isEmpty() && rest.isEmpty();
+        }
+
+        int size() {
+            return first.size() + rest.size();
+        }
+    }
+
     // Mapping is level -> encoded chunk pos -> block entities waiting to be initialized
     private final Map<LevelAccessor, Long2ObjectMap<List<FirstTickInfo<?>>>> blockEntities = new Object2ObjectOpenHashMap<>();
+    private final Map<LevelAccessor, ReadyQueue> readyQueues = new Object2ObjectOpenHashMap<>();
 
     /**
      * Resets all internal data
      */
-    void clear() {
+    synchronized void clear() {
         this.blockEntities.clear();
+        this.readyQueues.clear();
     }
 
     /**
@@ -72,11 +105,36 @@ synchronized <T extends BlockEntity> void addBlockEntity(T blockEntity, Consumer
                 .add(new FirstTickInfo<>(blockEntity, initFunction));
     }
 
+    /**
+     * Queues a block entity that was taken from this repository again, for example because there was no time left to
+     * initialize it in the current tick.
+     */
+    synchronized <T extends BlockEntity> void requeue(FirstTickInfo<T> info) {
+        addBlockEntity(info.blockEntity(), info.initFunction());
+    }
+
+    /**
+     * @return The number of block entities that are waiting to be initialized in all levels.
+     */
+    synchronized int getQueuedCount() {
+        int count = 0;
+        for (var levelQueue : blockEntities.values()) {
+            for (var chunkQueue : levelQueue.values()) {
+                count += chunkQueue.size();
+            }
+        }
+        for (var readyQueue : readyQueues.values()) {
+            count += readyQueue.size();
+        }
+        return count;
+    }
+
     /**
      * Tears down data related to a now unloaded level
      */
     synchronized void removeLevel(LevelAccessor level) {
         this.blockEntities.remove(level);
+        this.readyQueues.remove(level);
     }
 
     /**
@@ -95,25 +153,39 @@ synchronized void removeChunk(LevelAccessor level, long chunkPos) {
     /**
      * Get the block entities needing to be initialized in this specific {@link LevelAccessor}.
      */
-    public Long2ObjectMap<List<FirstTickInfo<?>>> getBlockEntities(LevelAccessor level) {
+    public synchronized Long2ObjectMap<List<FirstTickInfo<?>>> getBlockEntities(LevelAccessor level) {
         return blockEntities.get(level);
     }
 
-    public List<Component> getReport() {
+    /**
+     * Get the queue of block entities in this specific {@link LevelAccessor} whose chunks are ready to tick.
+     */
+    synchronized ReadyQueue getReadyQueue(LevelAccessor level) {
+        return readyQueues.computeIfAbsent(level, key -> new ReadyQueue());
+    }
+
+    public synchronized List<Component> getReport() {
         var result = new ArrayList<Component>();
 
         for (var levelEntry : blockEntities.entrySet()) {
-            if (levelEntry.getValue().isEmpty()) {
+            var level = levelEntry.getKey();
+            var readyQueue = readyQueues.get(level);
+            var readyCount = readyQueue != null ? readyQueue.size() : 0;
+            if (levelEntry.getValue().isEmpty() && readyCount == 0) {
                 continue;
             }
 
-            var level = levelEntry.getKey();
             String levelName = level.toString();
             if (level instanceof ServerLevel serverLevel) {
                 levelName = serverLevel.dimension().location().toString();
             }
 
             result.add(Component.literal(levelName).withStyle(ChatFormatting.BOLD));
+            if (readyCount > 0) {
+                result.add(Component.literal("Ready to initialize: ")
+                        .withStyle(ChatFormatting.BOLD)
+                        .append(Integer.toString(readyCount)));
+            }
             for (var chunkEntry : levelEntry.getValue().long2ObjectEntrySet()) {
                 var chunkPos = new ChunkPos(chunkEntry.getLongKey());
                 var line = Component.literal(chunkPos.x + "," + chunkPos.z + ": ")
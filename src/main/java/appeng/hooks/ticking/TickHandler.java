@@ -21,6 +21,7 @@
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
@@ -41,6 +42,7 @@
 import net.minecraft.CrashReport;
 import net.minecraft.ReportedException;
 import net.minecraft.network.chat.Component;
+import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.level.ServerLevel;
 import net.minecraft.world.level.ChunkPos;
 import net.minecraft.world.level.Level;
@@ -49,11 +51,16 @@
 import net.minecraft.world.level.chunk.LevelChunk;
 
 import appeng.blockentity.AEBaseBlockEntity;
+import appeng.blockentity.networking.ControllerBlockEntity;
 import appeng.core.AEConfig;
 import appeng.core.AELog;
 import appeng.crafting.CraftingCalculation;
+import appeng.hooks.ticking.ServerBlockEntityRepo.FirstTickInfo;
 import appeng.me.Grid;
+import appeng.me.GridConnection;
 import appeng.me.GridNode;
+import appeng.me.service.TickManagerService;
+import appeng.me.service.helpers.DeviceTickBudget;
 import appeng.util.ILevelRunnable;
 import appeng.util.Platform;
 
@@ -64,12 +71,20 @@ public class TickHandler {
      */
     private static final int TIME_LIMIT_PROCESS_QUEUE_MILLISECONDS = 25;
 
+    private static final Comparator<Grid> DEVICE_TICK_ORDER = Comparator
+            .comparingInt(g -> ((TickManagerService) g.getTickManager()).wereTicksDeferredLastTick() ? 0 : 1);
+
     private static final TickHandler INSTANCE = new TickHandler();
     private final Queue<ILevelRunnable> serverQueue = new ArrayDeque<>();
     private final Multimap<LevelAccessor, CraftingCalculation> craftingJobs = LinkedListMultimap.create();
     private final Map<LevelAccessor, Queue<ILevelRunnable>> callQueue = new HashMap<>();
     private final ServerBlockEntityRepo blockEntities = new ServerBlockEntityRepo();
     private final ServerGridRepo grids = new ServerGridRepo();
+    private final DeviceTickBudget deviceTickBudget = new DeviceTickBudget();
+    /**
+     * The order in which grids tick their devices. Reused between ticks.
+     */
+    private final List<Grid> deviceTickOrder = new ArrayList<>();
 
     /**
      * A stop watch to limit processing the additional queues to honor
@@ -80,6 +95,11 @@ public class TickHandler {
     private final Stopwatch stopWatch = Stopwatch.createUnstarted();
     private int processQueueElementsProcessed = 0;
     private int processQueueElementsRemaining = 0;
+    // Statistics about block entities readied in the current server tick
+    private int blockEntitiesReadied = 0;
+    private long blockEntityReadyTime = 0;
+    private int lastBlockEntitiesReadied = 0;
+    private long lastBlockEntityReadyTime = 0;
 
     private long tickCounter;
 
@@ -91,7 +111,7 @@ private TickHandler() {
     }
 
     public void init() {
-        ServerTickEvents.START_SERVER_TICK.register(server -> onServerTickStart());
+        ServerTickEvents.START_SERVER_TICK.register(this::onServerTickStart);
         ServerTickEvents.END_SERVER_TICK.register(server -> onServerTickEnd());
         ServerTickEvents.START_WORLD_TICK.register(this::onServerLevelTickStart);
         ServerTickEvents.END_WORLD_TICK.register(this::onServerLevelTickEnd);
@@ -246,8 +266,12 @@ private void onServerLevelTickEnd(ServerLevel level) {
         this.simulateCraftingJobs(level);
         this.readyBlockEntities(level);
 
-        // tick networks
-        for (var g : this.grids.getNetworks()) {
+        // tick networks, which also ticks their devices
+        deviceTickBudget.beginPass();
+        var gridOrder = getDeviceTickOrder();
+        for (int i = 0; i < gridOrder.size(); i++) {
+            var g = gridOrder.get(i);
+            deviceTickBudget.beginGrid(gridOrder.size() - i);
             try {
                 g.onLevelEndTick(level);
             } catch (Throwable t) {
@@ -255,15 +279,36 @@ private void onServerLevelTickEnd(ServerLevel level) {
                 g.fillCrashReportCategory(crashReport.addCategory("Grid being ticked"));
                 level.fillReportDetails(crashReport);
                 throw new ReportedException(crashReport);
+            } finally {
+                deviceTickBudget.endGrid();
             }
         }
     }
 
-    private void onServerTickStart() {
+    /**
+     * Grids that had to defer some of their devices in the last tick go first, so they can catch up.
+     */
+    private List<Grid> getDeviceTickOrder() {
+        deviceTickOrder.clear();
+        for (var g : this.grids.getNetworks()) {
+            deviceTickOrder.add(g);
+        }
+        deviceTickOrder.sort(DEVICE_TICK_ORDER);
+        return deviceTickOrder;
+    }
+
+    private void onServerTickStart(MinecraftServer server) {
         // Reset the stop watch on the start of each server tick.
         this.processQueueElementsProcessed = 0;
         this.processQueueElementsRemaining = 0;
         this.stopWatch.reset();
+        this.lastBlockEntitiesReadied = this.blockEntitiesReadied;
+        this.lastBlockEntityReadyTime = this.blockEntityReadyTime;
+        this.blockEntitiesReadied = 0;
+        this.blockEntityReadyTime = 0;
+        // Grids tick their devices once per level, and once more at the end of the server tick
+        this.deviceTickBudget.startTick(TimeUnit.MILLISECONDS.toNanos(AEConfig.instance().getDeviceTickTimePerTick()),
+                server.levelKeys().size() + 1);
 
         // tick networks
         for (var g : this.grids.getNetworks()) {
@@ -278,14 +323,20 @@ private void onServerTickStart() {
     }
 
     private void onServerTickEnd() {
-        // tick networks
-        for (var g : this.grids.getNetworks()) {
+        // tick networks, which also ticks devices that are not in a level
+        deviceTickBudget.beginPass();
+        var gridOrder = getDeviceTickOrder();
+        for (int i = 0; i < gridOrder.size(); i++) {
+            var g = gridOrder.get(i);
+            deviceTickBudget.beginGrid(gridOrder.size() - i);
             try {
                 g.onServerEndTick();
             } catch (Throwable t) {
                 CrashReport crashReport = CrashReport.forThrowable(t, "Ticking grid on end of server tick");
                 g.fillCrashReportCategory(crashReport.addCategory("Grid being ticked"));
                 throw new ReportedException(crashReport);
+            } finally {
+                deviceTickBudget.endGrid();
             }
         }
 
@@ -338,43 +389,85 @@ private void simulateCraftingJobs(LevelAccessor level) {
      */
     private void readyBlockEntities(ServerLevel level) {
         var levelQueue = blockEntities.getBlockEntities(level);
-        if (levelQueue == null) {
+        var readyQueue = blockEntities.getReadyQueue(level);
+        if ((levelQueue == null || levelQueue.isEmpty()) && readyQueue.isEmpty()) {
             return;
         }
 
-        // Make a copy because this set may be modified when new chunks are loaded by an onReady call below
-        long[] workSet = levelQueue.keySet().toLongArray();
-
-        for (long packedChunkPos : workSet) {
-            // Readies all of our block entities in this chunk as soon as it can tick BEs
-            // The following test is equivalent to ServerLevel#isPositionTickingWithEntitiesLoaded
-            if (level.shouldTickBlocksAt(packedChunkPos)) {
-                // Take the currently waiting block entities for this chunk and ready them all. Should more block
-                // entities be added to this chunk while we're working on it, a new list will be added automatically and
-                // we'll work on this chunk again next tick.
-                var chunkQueue = levelQueue.remove(packedChunkPos);
-                if (chunkQueue == null) {
-                    AELog.warn("Chunk %s was unloaded while we were readying block entities",
-                            new ChunkPos(packedChunkPos));
-                    continue; // This should never happen, chunk unloaded under our noses
+        var startTime = System.nanoTime();
+        var timeBudget = TimeUnit.MILLISECONDS.toNanos(AEConfig.instance().getBlockEntityReadyTimePerTick());
+
+        if (levelQueue != null && !levelQueue.isEmpty()) {
+            // Make a copy because this set may be modified when new chunks are loaded by an onReady call below
+            long[] workSet = levelQueue.keySet().toLongArray();
+
+            // Move the waiting block entities of all chunks that can tick BEs to the ready queue, since they're
+            // readied in order of their priority rather than chunk by chunk.
+            for (long packedChunkPos : workSet) {
+                // The following test is equivalent to ServerLevel#isPositionTickingWithEntitiesLoaded
+                if (level.shouldTickBlocksAt(packedChunkPos)) {
+                    // Take the currently waiting block entities for this chunk. Should more block entities be added to
+                    // this chunk while we're working on it, a new list will be added automatically and we'll work on
+                    // this chunk again next tick.
+                    var chunkQueue = levelQueue.remove(packedChunkPos);
+                    if (chunkQueue == null) {
+                        AELog.warn("Chunk %s was unloaded while we were readying block entities",
+                                new ChunkPos(packedChunkPos));
+                        continue; // This should never happen, chunk unloaded under our noses
+                    }
+                    for (var info : chunkQueue) {
+                        readyQueue.add(info, isReadiedFirst(info));
+                    }
                 }
+            }
+        }
 
-                for (var info : chunkQueue) {
-                    // Only ready block entities which weren't destroyed in the meantime.
-                    if (!info.blockEntity().isRemoved()) {
-                        try {
-                            // This could load more chunks, but the earliest time to be initialized is the next tick.
-                            info.callInit();
-                        } catch (Throwable t) {
-                            CrashReport crashReport = CrashReport.forThrowable(t, "Readying AE2 block entity");
-                            info.blockEntity()
-                                    .fillCrashReportCategory(crashReport.addCategory("Block entity being readied"));
-                            throw new ReportedException(crashReport);
-                        }
-                    }
+        // Grids connected by the block entities readied below are merged once we're done
+        GridConnection.beginBatch();
+        try {
+            for (int i = 0; !readyQueue.isEmpty(); i++) {
+                // Always make some progress, but leave the rest for the next tick once we're over budget
+                if (i > 0 && System.nanoTime() - startTime > timeBudget) {
+                    break;
+                }
+
+                var info = readyQueue.poll();
+                // Only ready block entities which weren't destroyed in the meantime.
+                if (info.blockEntity().isRemoved()) {
+                    continue;
+                }
+
+                // The chunk may have stopped ticking while the block entity was waiting in the ready queue
+                var pos = info.blockEntity().getBlockPos();
+                if (!level.shouldTickBlocksAt(ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4))) {
+                    blockEntities.requeue(info);
+                    continue;
+                }
+
+                try {
+                    // This could load more chunks, but the earliest time to be initialized is the next tick.
+                    info.callInit();
+                    this.blockEntitiesReadied++;
+                } catch (Throwable t) {
+                    CrashReport crashReport = CrashReport.forThrowable(t, "Readying AE2 block entity");
+                    info.blockEntity()
+                            .fillCrashReportCategory(crashReport.addCategory("Block entity being readied"));
+                    throw new ReportedException(crashReport);
                 }
             }
+        } finally {
+            GridConnection.endBatch();
         }
+
+        this.blockEntityReadyTime += System.nanoTime() - startTime;
+    }
+
+    /**
+     * Controllers are readied before other block entities, so that the grids they're the root of are already present
+     * when the rest of the network joins them.
+     */
+    private static boolean isReadiedFirst(FirstTickInfo<?> info) {
+        return info.blockEntity() instanceof ControllerBlockEntity;
     }
 
     /**
@@ -421,4 +514,29 @@ public long getCurrentTick() {
     public List<Component> getBlockEntityReport() {
         return blockEntities.getReport();
     }
+
+    public DeviceTickBudget getDeviceTickBudget() {
+        return deviceTickBudget;
+    }
+
+    /**
+     * @return The number of block entities that are still waiting to be readied.
+     */
+    public int getQueuedBlockEntityCount() {
+        return blockEntities.getQueuedCount();
+    }
+
+    /**
+     * @return The number of block entities that were readied in the last server tick.
+     */
+    public int getLastBlockEntitiesReadied() {
+        return lastBlockEntitiesReadied;
+    }
+
+    /**
+     * @return The time in nanoseconds spent on readying block entities in the last server tick.
+     */
+    public long getLastBlockEntityReadyTime() {
+        return lastBlockEntityReadyTime;
+    }
 }
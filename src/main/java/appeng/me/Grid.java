@@ -20,10 +20,12 @@
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import com.google.common.collect.ImmutableSet;
@@ -44,6 +46,8 @@
 import appeng.core.AELog;
 import appeng.core.worlddata.IGridStorageSaveData;
 import appeng.hooks.ticking.TickHandler;
+import appeng.me.helpers.GridProfiler;
+import appeng.me.service.PathingService;
 
 public class Grid implements IGrid {
     /**
@@ -53,6 +57,14 @@ public class Grid implements IGrid {
     private static int nextSerial = 0;
 
     private final SetMultimap<Class<?>, IGridNode> machines = MultimapBuilder.hashKeys().hashSetValues().build();
+    /**
+     * Caches the results of {@link #getMachines} and {@link #getActiveMachines} by machine class. The cached sets are
+     * immutable and are replaced rather than updated, so callers can keep iterating a set they've already received. A
+     * class is evicted when a node of that class joins or leaves the grid, and additionally from the active machines
+     * when the status of one of its nodes changes.
+     */
+    private final Map<Class<?>, Set<?>> machinesCache = new HashMap<>();
+    private final Map<Class<?>, Set<?>> activeMachinesCache = new HashMap<>();
     private final Map<Class<?>, IGridServiceProvider> services;
     private GridNode pivot;
     private int priority; // how import is this network?
@@ -104,6 +116,8 @@ void remove(GridNode gridNode) {
 
         var machineClass = gridNode.getOwner().getClass();
         this.machines.remove(machineClass, gridNode);
+        this.machinesCache.remove(machineClass);
+        this.activeMachinesCache.remove(machineClass);
 
         gridNode.setGridStorage(null);
 
@@ -114,6 +128,8 @@ void remove(GridNode gridNode) {
             } else {
                 this.pivot = null;
                 TickHandler.instance().removeNetwork(this);
+                // The grid will no longer tick to pick up the result of a calculation that is still running
+                ((PathingService) getPathingService()).cancelCalculation();
                 this.myStorage.remove(gridNode.getLevel());
 
                 AELog.grid("Removed grid %s", this);
@@ -162,7 +178,10 @@ void add(GridNode gridNode) {
         gridNode.setGridStorage(this.myStorage);
 
         // track node.
-        this.machines.put(gridNode.getOwner().getClass(), gridNode);
+        var machineClass = gridNode.getOwner().getClass();
+        this.machines.put(machineClass, gridNode);
+        this.machinesCache.remove(machineClass);
+        this.activeMachinesCache.remove(machineClass);
 
         for (var service : this.services.values()) {
             service.addNode(gridNode);
@@ -197,28 +216,37 @@ public Iterable<IGridNode> getMachineNodes(Class<?> machineClass) {
 
     @Override
     public <T> Set<T> getMachines(Class<T> machineClass) {
-        Set<IGridNode> nodes = this.machines.get(machineClass);
-        var resultBuilder = ImmutableSet.<T>builder();
-        for (IGridNode node : nodes) {
-            var logicalHost = node.getOwner();
-            if (machineClass.isInstance(logicalHost)) {
-                resultBuilder.add(machineClass.cast(logicalHost));
-            }
-        }
-        return resultBuilder.build();
+        return getCachedMachines(this.machinesCache, machineClass, false);
     }
 
     @Override
     public <T> Set<T> getActiveMachines(Class<T> machineClass) {
-        Set<IGridNode> nodes = this.machines.get(machineClass);
-        var resultBuilder = ImmutableSet.<T>builder();
-        for (IGridNode node : nodes) {
-            var logicalHost = node.getOwner();
-            if (machineClass.isInstance(logicalHost) && node.isActive()) {
-                resultBuilder.add(machineClass.cast(logicalHost));
+        return getCachedMachines(this.activeMachinesCache, machineClass, true);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Set<T> getCachedMachines(Map<Class<?>, Set<?>> cache, Class<T> machineClass, boolean activeOnly) {
+        var result = (Set<T>) cache.get(machineClass);
+        if (result == null) {
+            var resultBuilder = ImmutableSet.<T>builder();
+            for (IGridNode node : this.machines.get(machineClass)) {
+                var logicalHost = node.getOwner();
+                if (machineClass.isInstance(logicalHost) && (!activeOnly || node.isActive())) {
+                    resultBuilder.add(machineClass.cast(logicalHost));
+                }
             }
+            result = resultBuilder.build();
+            cache.put(machineClass, result);
         }
-        return resultBuilder.build();
+        return result;
+    }
+
+    /**
+     * Called before the listener of a node in this grid is notified about a change of its status, which might change
+     * whether the node is active.
+     */
+    void onNodeStatusChanged(GridNode node) {
+        this.activeMachinesCache.remove(node.getOwner().getClass());
     }
 
     @Override
@@ -241,33 +269,32 @@ void setPivot(GridNode pivot) {
     }
 
     public void onServerStartTick() {
-        for (var gc : this.services.values()) {
-            if (this.pivot != null) {
-                gc.onServerStartTick();
-            }
-        }
+        tickServices("onServerStartTick", IGridServiceProvider::onServerStartTick);
     }
 
     public void onLevelStartTick(Level level) {
-        for (var gc : this.services.values()) {
-            if (this.pivot != null) {
-                gc.onLevelStartTick(level);
-            }
-        }
+        tickServices("onLevelStartTick", service -> service.onLevelStartTick(level));
     }
 
     public void onLevelEndTick(Level level) {
-        for (var gc : this.services.values()) {
-            if (this.pivot != null) {
-                gc.onLevelEndTick(level);
-            }
-        }
+        tickServices("onLevelEndTick", service -> service.onLevelEndTick(level));
     }
 
     public void onServerEndTick() {
+        tickServices("onServerEndTick", IGridServiceProvider::onServerEndTick);
+    }
+
+    private void tickServices(String method, Consumer<IGridServiceProvider> tick) {
+        var profiling = GridProfiler.isEnabled();
         for (var gc : this.services.values()) {
             if (this.pivot != null) {
-                gc.onServerEndTick();
+                if (profiling) {
+                    var start = System.nanoTime();
+                    tick.accept(gc);
+                    GridProfiler.recordService(this, gc, method, System.nanoTime() - start);
+                } else {
+                    tick.accept(gc);
+                }
             }
         }
     }
@@ -314,6 +341,10 @@ public void fillCrashReportCategory(CrashReportCategory category) {
         }
     }
 
+    public int getSerialNumber() {
+        return this.serialNumber;
+    }
+
     @Override
     public String toString() {
         return "Grid #" + serialNumber;
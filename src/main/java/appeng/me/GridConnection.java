@@ -18,6 +18,10 @@
 
 package appeng.me;
 
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 import javax.annotation.Nullable;
@@ -40,9 +44,21 @@
 
 public class GridConnection implements IGridConnection, IPathItem {
 
+    /**
+     * While a batch is in progress, connections that join two existing grids only record the merge, and the grids are
+     * merged when the batch ends. When many adjacent nodes are readied at once (i.e. on chunk load), they would
+     * otherwise form many small grids that are repeatedly merged into each other, moving nodes between grids multiple
+     * times.
+     */
+    private static int batchDepth;
+    private static final List<PendingMerge> pendingMerges = new ArrayList<>();
+
     private int usedChannels = 0;
     private int lastUsedChannels = 0;
-    private Object visitorIterationNumber = null;
+    /**
+     * @see GridNode#beginVisit
+     */
+    private long visitorGeneration;
     /**
      * Note that in grids with a controller, following this side will always lead down the closest path towards the
      * controller.
@@ -188,12 +204,12 @@ private int getLastUsedChannels() {
         return this.lastUsedChannels;
     }
 
-    Object getVisitorIterationNumber() {
-        return this.visitorIterationNumber;
+    long getVisitorGeneration() {
+        return this.visitorGeneration;
     }
 
-    void setVisitorIterationNumber(Object visitorIterationNumber) {
-        this.visitorIterationNumber = visitorIterationNumber;
+    void setVisitorGeneration(long visitorGeneration) {
+        this.visitorGeneration = visitorGeneration;
     }
 
     public static GridConnection create(IGridNode aNode, IGridNode bNode,
@@ -254,7 +270,9 @@ private static void mergeGrids(GridNode a, GridNode b) {
             assertNodeIsStandalone(b);
             b.setGrid(gridA);
         } else if (gridA != gridB) {
-            if (isGridABetterThanGridB(gridA, gridB)) {
+            if (batchDepth > 0) {
+                pendingMerges.add(new PendingMerge(a, b));
+            } else if (isGridABetterThanGridB(gridA, gridB)) {
                 // Both A and B have grids, but A's grid is "better" -> propagate it to B and all its connected nodes
                 var gp = new GridPropagator(a.getInternalGrid());
                 b.beginVisit(gp);
@@ -266,6 +284,93 @@ private static void mergeGrids(GridNode a, GridNode b) {
         }
     }
 
+    /**
+     * Starts a batch of node connections. Must be followed by a call to {@link #endBatch()}.
+     */
+    public static void beginBatch() {
+        batchDepth++;
+    }
+
+    /**
+     * Ends a batch of node connections started by {@link #beginBatch()} and performs the grid merges that were
+     * deferred while it was in progress.
+     */
+    public static void endBatch() {
+        Preconditions.checkState(batchDepth > 0, "No batch in progress");
+        if (--batchDepth == 0 && !pendingMerges.isEmpty()) {
+            mergePendingGrids();
+        }
+    }
+
+    /**
+     * Merges all grids that were connected during a batch. The connected grids are grouped using union-find, and every
+     * group is merged into its best grid. Since all nodes of a group are connected by now, a single propagation moves
+     * every node that is not yet part of the best grid, and each node changes its grid at most once.
+     */
+    private static void mergePendingGrids() {
+        var merges = new ArrayList<>(pendingMerges);
+        pendingMerges.clear();
+
+        Map<Grid, Grid> parents = new IdentityHashMap<>();
+        for (var merge : merges) {
+            if (merge.isValid()) {
+                var rootA = findRoot(parents, merge.a().getMyGrid());
+                var rootB = findRoot(parents, merge.b().getMyGrid());
+                if (rootA != rootB) {
+                    // The root of each group is always its best grid
+                    if (isGridABetterThanGridB(rootA, rootB)) {
+                        parents.put(rootB, rootA);
+                    } else {
+                        parents.put(rootA, rootB);
+                    }
+                }
+            }
+        }
+
+        for (var merge : merges) {
+            if (!merge.isValid()) {
+                continue;
+            }
+
+            var gridA = merge.a().getMyGrid();
+            var gridB = merge.b().getMyGrid();
+            if (gridA == gridB) {
+                continue; // Already merged by a previous propagation
+            }
+
+            var bestGrid = findRoot(parents, gridA);
+            var gp = new GridPropagator(bestGrid);
+            if (gridA != bestGrid) {
+                merge.a().beginVisit(gp);
+            } else {
+                merge.b().beginVisit(gp);
+            }
+        }
+    }
+
+    private static Grid findRoot(Map<Grid, Grid> parents, Grid grid) {
+        var root = grid;
+        Grid parent;
+        while ((parent = parents.get(root)) != null) {
+            root = parent;
+        }
+        // Compress the path we just walked
+        while (grid != root) {
+            var next = parents.put(grid, root);
+            grid = next;
+        }
+        return root;
+    }
+
+    private record PendingMerge(GridNode a, GridNode b) {
+        /**
+         * Merges are skipped if the connection was removed again during the batch.
+         */
+        boolean isValid() {
+            return a.hasConnection(b);
+        }
+    }
+
     private static boolean isGridABetterThanGridB(Grid gridA, Grid gridB) {
         if (gridA.getPriority() != gridB.getPriority()) {
             return gridA.getPriority() > gridB.getPriority();
@@ -18,10 +18,8 @@
 
 package appeng.me;
 
-import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.Deque;
 import java.util.EnumMap;
 import java.util.EnumSet;
 import java.util.List;
@@ -64,6 +62,19 @@
 import appeng.me.pathfinding.IPathItem;
 
 public class GridNode implements IGridNode, IPathItem {
+    /**
+     * Incremented for every visit. Nodes and connections store the generation of the last visit that reached them,
+     * which replaces a set of visited nodes.
+     */
+    private static long visitGeneration;
+    /**
+     * Work lists that are reused between visits to avoid allocating them for every visit. Null while they're in use.
+     */
+    @Nullable
+    private static List<GridNode> pooledVisitQueue = new ArrayList<>();
+    @Nullable
+    private static List<IGridConnection> pooledVisitConnections = new ArrayList<>();
+
     private final ServerLevel level;
     /**
      * This is the logical host of the node, which could be any object. In many cases this will be a block entity or
@@ -91,7 +102,12 @@ public class GridNode implements IGridNode, IPathItem {
     private int owningPlayerId = -1;
     private GridStorage myStorage = null;
     private Grid myGrid;
-    private Object visitorIterationNumber = null;
+    /**
+     * The generation of the last visit that reached this node.
+     *
+     * @see #visitGeneration
+     */
+    private long visitorGeneration;
     // connection criteria
     private int usedChannels = 0;
     private int lastUsedChannels = 0;
@@ -136,6 +152,9 @@ public <T> void callListener(ListenerCallback<T> callback) {
      * Notifies the grid node's listener about a potential change in the grid node's status.
      */
     public void notifyStatusChange(IGridNodeListener.State reason) {
+        if (this.myGrid != null) {
+            this.myGrid.onNodeStatusChanged(this);
+        }
         callListener((listener, owner, node) -> listener.onStateChanged(owner, node, reason));
     }
 
@@ -170,9 +189,7 @@ void validateGrid() {
             return;
         }
 
-        var gsd = new GridSplitDetector(this.getInternalGrid().getPivot());
-        this.beginVisit(gsd);
-        if (!gsd.isPivotFound()) {
+        if (!this.isConnectedTo(this.getInternalGrid().getPivot())) {
             var gp = new GridPropagator(Grid.create(this));
             this.beginVisit(gp);
         }
@@ -188,38 +205,119 @@ public Grid getInternalGrid() {
 
     @Override
     public void beginVisit(IGridVisitor g) {
-        final Object tracker = new Object();
-
-        Deque<GridNode> nextRun = new ArrayDeque<>();
-        nextRun.add(this);
-
-        this.visitorIterationNumber = tracker;
-
-        if (g instanceof IGridConnectionVisitor gcv) {
-            final Deque<IGridConnection> nextConn = new ArrayDeque<>();
-
-            while (!nextRun.isEmpty()) {
-                while (!nextConn.isEmpty()) {
-                    gcv.visitConnection(nextConn.poll());
+        var gcv = g instanceof IGridConnectionVisitor ? (IGridConnectionVisitor) g : null;
+        var generation = ++visitGeneration;
+        var queue = acquireVisitQueue();
+        var connections = gcv != null ? acquireVisitConnections() : null;
+
+        try {
+            queue.add(this);
+            this.visitorGeneration = generation;
+
+            // The queue is processed level by level, since connection visitors expect all connections discovered on
+            // one level to be visited before the nodes of the next level
+            int head = 0;
+            while (head < queue.size()) {
+                if (connections != null) {
+                    for (var connection : connections) {
+                        gcv.visitConnection(connection);
+                    }
+                    connections.clear();
                 }
 
-                final Iterable<GridNode> thisRun = nextRun;
-                nextRun = new ArrayDeque<>();
-
-                for (GridNode n : thisRun) {
-                    n.visitorConnection(tracker, g, nextRun, nextConn);
+                int levelEnd = queue.size();
+                while (head < levelEnd) {
+                    var n = queue.get(head++);
+                    if (!g.visitNode(n)) {
+                        continue;
+                    }
+
+                    for (var gc : n.getConnections()) {
+                        if (connections != null) {
+                            var gcc = (GridConnection) gc;
+                            if (gcc.getVisitorGeneration() != generation) {
+                                gcc.setVisitorGeneration(generation);
+                                connections.add(gc);
+                            }
+                        }
+
+                        var gn = (GridNode) gc.getOtherSide(n);
+                        if (gn.visitorGeneration != generation) {
+                            gn.visitorGeneration = generation;
+                            queue.add(gn);
+                        }
+                    }
                 }
             }
-        } else {
-            while (!nextRun.isEmpty()) {
-                var thisRun = nextRun;
-                nextRun = new ArrayDeque<>();
+        } finally {
+            releaseVisitQueue(queue);
+            if (connections != null) {
+                releaseVisitConnections(connections);
+            }
+        }
+    }
 
-                for (var n : thisRun) {
-                    n.visitorNode(tracker, g, nextRun);
+    /**
+     * Checks whether the given node can be reached from this node. The search stops as soon as the node is found.
+     */
+    private boolean isConnectedTo(IGridNode target) {
+        if (target == this) {
+            return true;
+        }
+
+        var generation = ++visitGeneration;
+        var queue = acquireVisitQueue();
+
+        try {
+            queue.add(this);
+            this.visitorGeneration = generation;
+
+            for (int head = 0; head < queue.size(); head++) {
+                var n = queue.get(head);
+                for (var gc : n.getConnections()) {
+                    var gn = (GridNode) gc.getOtherSide(n);
+                    if (gn == target) {
+                        return true;
+                    }
+                    if (gn.visitorGeneration != generation) {
+                        gn.visitorGeneration = generation;
+                        queue.add(gn);
+                    }
                 }
             }
+            return false;
+        } finally {
+            releaseVisitQueue(queue);
+        }
+    }
+
+    private static List<GridNode> acquireVisitQueue() {
+        var queue = pooledVisitQueue;
+        if (queue == null) {
+            // A visit is already in progress further up the stack
+            return new ArrayList<>();
         }
+        pooledVisitQueue = null;
+        return queue;
+    }
+
+    private static void releaseVisitQueue(List<GridNode> queue) {
+        queue.clear();
+        pooledVisitQueue = queue;
+    }
+
+    private static List<IGridConnection> acquireVisitConnections() {
+        var connections = pooledVisitConnections;
+        if (connections == null) {
+            return new ArrayList<>();
+        }
+        pooledVisitConnections = null;
+        return connections;
+    }
+
+    private static void releaseVisitConnections(List<IGridConnection> connections) {
+        connections.clear();
+        pooledVisitConnections = connections;
     }
 
     private void updateState() {
@@ -496,45 +594,6 @@ public int getOwningPlayerId() {
     protected void findInWorldConnections() {
     }
 
-    private void visitorConnection(Object tracker, IGridVisitor g, Deque<GridNode> nextRun,
-            Deque<IGridConnection> nextConnections) {
-        if (g.visitNode(this)) {
-            for (IGridConnection gc : this.getConnections()) {
-                final GridNode gn = (GridNode) gc.getOtherSide(this);
-                final GridConnection gcc = (GridConnection) gc;
-
-                if (gcc.getVisitorIterationNumber() != tracker) {
-                    gcc.setVisitorIterationNumber(tracker);
-                    nextConnections.add(gc);
-                }
-
-                if (tracker == gn.visitorIterationNumber) {
-                    continue;
-                }
-
-                gn.visitorIterationNumber = tracker;
-
-                nextRun.add(gn);
-            }
-        }
-    }
-
-    private void visitorNode(Object tracker, IGridVisitor g, Deque<GridNode> nextRun) {
-        if (g.visitNode(this)) {
-            for (var gc : this.getConnections()) {
-                var gn = (GridNode) gc.getOtherSide(this);
-
-                if (tracker == gn.visitorIterationNumber) {
-                    continue;
-                }
-
-                gn.visitorIterationNumber = tracker;
-
-                nextRun.add(gn);
-            }
-        }
-    }
-
     GridStorage getGridStorage() {
         return this.myStorage;
     }
@@ -19,6 +19,8 @@
 package appeng.me.cluster;
 
 import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
 
 import net.minecraft.core.BlockPos;
 import net.minecraft.core.BlockPos.MutableBlockPos;
@@ -28,6 +30,7 @@
 import net.minecraft.world.level.block.entity.BlockEntity;
 
 import appeng.core.AELog;
+import appeng.hooks.ticking.TickHandler;
 
 public abstract class MBCalculator<TBlockEntity extends IAEMultiBlock<TCluster>, TCluster extends IAECluster> {
 
@@ -37,8 +40,25 @@
      */
     private static WeakReference<IAECluster> modificationInProgress = new WeakReference<>(null);
 
+    /**
+     * Sequence number that orders calculation requests and cluster verifications.
+     */
+    private static long sequence;
+
+    /**
+     * The sequence number at which each cluster's structure was last fully verified. A calculation that was requested
+     * before the target's cluster was verified has nothing left to do, since the whole structure was checked after the
+     * request was made.
+     */
+    private static final Map<IAECluster, Long> verifiedAt = new WeakHashMap<>();
+
     protected final TBlockEntity target;
 
+    /**
+     * Sequence number of the latest calculation request for the target, or -1 if no calculation is pending.
+     */
+    private long requestedAt = -1;
+
     public MBCalculator(TBlockEntity t) {
         this.target = t;
     }
@@ -83,11 +103,39 @@ public void updateMultiblockAfterNeighborUpdate(ServerLevel level, BlockPos loc,
         }
     }
 
+    /**
+     * Schedules a recalculation of the multiblock that contains the target. Calculations are deferred to the start of
+     * the next level tick, and requests for blocks of the same structure are coalesced into a single calculation.
+     * This avoids re-verifying the entire structure once per block when a large structure is placed or loaded.
+     */
     public void calculateMultiblock(ServerLevel level, BlockPos loc) {
         if (isModificationInProgress()) {
             return;
         }
 
+        boolean alreadyQueued = requestedAt != -1;
+        requestedAt = ++sequence;
+        if (!alreadyQueued) {
+            TickHandler.instance().addCallable(level, () -> {
+                var requested = requestedAt;
+                requestedAt = -1;
+                if (target instanceof BlockEntity be && be.isRemoved()) {
+                    return;
+                }
+                var cluster = target.getCluster();
+                if (cluster != null && !cluster.isDestroyed() && verifiedAt.getOrDefault(cluster, -1L) > requested) {
+                    return;
+                }
+                calculateMultiblockNow(level, loc);
+            });
+        }
+    }
+
+    private void calculateMultiblockNow(ServerLevel level, BlockPos loc) {
+        if (isModificationInProgress()) {
+            return;
+        }
+
         IAECluster currentCluster = target.getCluster();
         if (currentCluster != null && currentCluster.isDestroyed()) {
             return; // If we're still part of a cluster that is in the process of being destroyed,
@@ -143,6 +191,7 @@ public void calculateMultiblock(ServerLevel level, BlockPos loc) {
                 }
 
                 cluster.updateStatus(updateGrid);
+                verifiedAt.put(cluster, ++sequence);
                 return;
             }
         } catch (Throwable err) {
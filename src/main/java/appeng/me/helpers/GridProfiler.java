@@ -0,0 +1,212 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2021, TeamAppliedEnergistics, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.me.helpers;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+import com.google.gson.stream.JsonWriter;
+
+import net.minecraft.core.BlockPos;
+import net.minecraft.resources.ResourceKey;
+import net.minecraft.world.level.ChunkPos;
+import net.minecraft.world.level.Level;
+import net.minecraft.world.level.block.entity.BlockEntity;
+
+import appeng.api.networking.IGridNode;
+import appeng.me.Grid;
+import appeng.me.service.TickManagerService;
+import appeng.parts.AEBasePart;
+
+/**
+ * Collects the time spent in grid services and ticking grid nodes while {@link TickManagerService#MONITORING_ENABLED
+ * tick monitoring} is enabled. Service timings are recorded per grid, node tick timings per machine class and per
+ * chunk. Only used from the server thread.
+ */
+public final class GridProfiler {
+
+    private static final Map<ServiceKey, Stats> SERVICES = new HashMap<>();
+    private static final Map<Class<?>, Stats> MACHINES = new HashMap<>();
+    private static final Map<ChunkKey, Stats> CHUNKS = new HashMap<>();
+
+    private GridProfiler() {
+    }
+
+    public static boolean isEnabled() {
+        return TickManagerService.MONITORING_ENABLED;
+    }
+
+    public static void reset() {
+        SERVICES.clear();
+        MACHINES.clear();
+        CHUNKS.clear();
+    }
+
+    public static void recordService(Grid grid, Object service, String method, long nanos) {
+        SERVICES.computeIfAbsent(new ServiceKey(grid.getSerialNumber(), service.getClass(), method),
+                k -> new Stats()).add(nanos);
+    }
+
+    public static void recordNodeTick(IGridNode node, long nanos) {
+        var owner = node.getOwner();
+        MACHINES.computeIfAbsent(owner.getClass(), k -> new Stats()).add(nanos);
+
+        var pos = getPosition(owner);
+        if (pos != null) {
+            var chunk = new ChunkKey(node.getLevel().dimension(), ChunkPos.asLong(pos.getX() >> 4, pos.getZ() >> 4));
+            CHUNKS.computeIfAbsent(chunk, k -> new Stats()).add(nanos);
+        }
+    }
+
+    @Nullable
+    private static BlockPos getPosition(Object owner) {
+        if (owner instanceof BlockEntity blockEntity) {
+            return blockEntity.getBlockPos();
+        } else if (owner instanceof AEBasePart part && part.getHost() != null) {
+            return part.getHost().getBlockEntity().getBlockPos();
+        }
+        return null;
+    }
+
+    /**
+     * @return The recorded entries of a category, sorted by descending total time.
+     */
+    public static List<Entry> getEntries(Category category) {
+        var entries = new ArrayList<Entry>();
+        switch (category) {
+            case SERVICES -> SERVICES.forEach((key, stats) -> entries.add(new Entry(List.of(
+                    "Grid #" + key.gridSerial(), key.service().getSimpleName(), key.method()), stats)));
+            case MACHINES -> MACHINES.forEach((key, stats) -> entries.add(new Entry(List.of(key.getName()), stats)));
+            case CHUNKS -> CHUNKS.forEach((key, stats) -> {
+                var chunkPos = new ChunkPos(key.chunkPos());
+                entries.add(new Entry(List.of(key.level().location().toString(), chunkPos.toString()), stats));
+            });
+        }
+        entries.sort(Comparator.comparingLong((Entry e) -> e.stats().getTotalTime()).reversed());
+        return entries;
+    }
+
+    /**
+     * Writes all recorded entries as JSON.
+     */
+    public static void exportJson(Path path) throws IOException {
+        try (var writer = new JsonWriter(Files.newBufferedWriter(path, StandardCharsets.UTF_8))) {
+            writer.setIndent("  ");
+            writer.beginObject();
+            for (var category : Category.values()) {
+                writer.name(category.getId()).beginArray();
+                for (var entry : getEntries(category)) {
+                    writer.beginObject();
+                    writer.name("path").beginArray();
+                    for (var frame : entry.path()) {
+                        writer.value(frame);
+                    }
+                    writer.endArray();
+                    writer.name("calls").value(entry.stats().getCalls());
+                    writer.name("totalNanos").value(entry.stats().getTotalTime());
+                    writer.name("maxNanos").value(entry.stats().getMaxTime());
+                    writer.endObject();
+                }
+                writer.endArray();
+            }
+            writer.endObject();
+        }
+    }
+
+    /**
+     * Writes all recorded entries in the collapsed stack format used by flame graph tools: one line per entry, with
+     * the semicolon-separated stack followed by the total time in microseconds.
+     */
+    public static void exportCollapsedStacks(Path path) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            for (var category : Category.values()) {
+                for (var entry : getEntries(category)) {
+                    writer.write("ae2;" + category.getId());
+                    for (var frame : entry.path()) {
+                        writer.write(';');
+                        // Semicolons and spaces are reserved by the format
+                        writer.write(frame.replace(';', '_').replace(' ', '_'));
+                    }
+                    writer.write(' ');
+                    writer.write(Long.toString(entry.stats().getTotalTime() / 1000));
+                    writer.write('\n');
+                }
+            }
+        }
+    }
+
+    public enum Category {
+        SERVICES("services"),
+        MACHINES("machines"),
+        CHUNKS("chunks");
+
+        private final String id;
+
+        Category(String id) {
+            this.id = id;
+        }
+
+        public String getId() {
+            return id;
+        }
+    }
+
+    public record Entry(List<String> path, Stats stats) {
+    }
+
+    public static final class Stats {
+        private long calls;
+        private long totalTime;
+        private long maxTime;
+
+        private void add(long nanos) {
+            calls++;
+            totalTime += nanos;
+            maxTime = Math.max(maxTime, nanos);
+        }
+
+        public long getCalls() {
+            return calls;
+        }
+
+        public long getTotalTime() {
+            return totalTime;
+        }
+
+        public long getMaxTime() {
+            return maxTime;
+        }
+    }
+
+    private record ServiceKey(int gridSerial, Class<?> service, String method) {
+    }
+
+    private record ChunkKey(ResourceKey<Level> level, long chunkPos) {
+    }
+}
@@ -18,36 +18,52 @@
 
 package appeng.me.helpers;
 
-import java.util.Collection;
-import java.util.Set;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
-import com.google.common.collect.Multimap;
-import com.google.common.collect.Sets;
+import com.google.common.collect.ImmutableList;
 
 import appeng.api.stacks.AEKey;
 
+/**
+ * Indexes watchers by the keys they are interested in. Watchers are compared by identity.
+ * <p/>
+ * Changes are posted for every changed key and every tick, while subscriptions rarely change. The watchers of each key
+ * are thus stored in compact immutable lists, which are copied when a watcher is added or removed. This also allows
+ * watchers to change their subscriptions while being notified.
+ */
 public class InterestManager<T> {
 
-    private final Multimap<AEKey, T> container;
-    private final Set<T> allStacksWatchers = Sets.newIdentityHashSet();
-
-    public InterestManager(Multimap<AEKey, T> interests) {
-        this.container = interests;
-    }
+    private final Map<AEKey, ImmutableList<T>> container = new HashMap<>();
+    private ImmutableList<T> allStacksWatchers = ImmutableList.of();
 
     public boolean put(AEKey stack, T iw) {
-        return this.container.put(stack, iw);
+        var watchers = this.container.getOrDefault(stack, ImmutableList.of());
+        if (containsWatcher(watchers, iw)) {
+            return false;
+        }
+        this.container.put(stack, withWatcher(watchers, iw));
+        return true;
     }
 
     public boolean remove(AEKey stack, T iw) {
-        return this.container.remove(stack, iw);
+        var watchers = this.container.get(stack);
+        if (watchers == null || !containsWatcher(watchers, iw)) {
+            return false;
+        }
+        if (watchers.size() == 1) {
+            this.container.remove(stack);
+        } else {
+            this.container.put(stack, withoutWatcher(watchers, iw));
+        }
+        return true;
     }
 
     public void setWatchAll(boolean watchAll, T watcher) {
-        if (watchAll) {
-            allStacksWatchers.add(watcher);
-        } else {
-            allStacksWatchers.remove(watcher);
+        if (containsWatcher(allStacksWatchers, watcher) != watchAll) {
+            allStacksWatchers = watchAll ? withWatcher(allStacksWatchers, watcher)
+                    : withoutWatcher(allStacksWatchers, watcher);
         }
     }
 
@@ -55,15 +71,41 @@ public boolean containsKey(AEKey stack) {
         return this.container.containsKey(stack);
     }
 
-    public Collection<T> get(AEKey stack) {
-        return this.container.get(stack);
+    public List<T> get(AEKey stack) {
+        return this.container.getOrDefault(stack, ImmutableList.of());
     }
 
-    public Collection<T> getAllStacksWatchers() {
+    public List<T> getAllStacksWatchers() {
         return this.allStacksWatchers;
     }
 
     public boolean isEmpty() {
         return allStacksWatchers.isEmpty() && container.isEmpty();
     }
+
+    private static <T> boolean containsWatcher(ImmutableList<T> watchers, T watcher) {
+        for (var i = 0; i < watchers.size(); i++) {
+            if (watchers.get(i) == watcher) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static <T> ImmutableList<T> withWatcher(ImmutableList<T> watchers, T watcher) {
+        return ImmutableList.<T>builderWithExpectedSize(watchers.size() + 1)
+                .addAll(watchers)
+                .add(watcher)
+                .build();
+    }
+
+    private static <T> ImmutableList<T> withoutWatcher(ImmutableList<T> watchers, T watcher) {
+        var builder = ImmutableList.<T>builderWithExpectedSize(watchers.size() - 1);
+        for (var i = 0; i < watchers.size(); i++) {
+            if (watchers.get(i) != watcher) {
+                builder.add(watchers.get(i));
+            }
+        }
+        return builder.build();
+    }
 }
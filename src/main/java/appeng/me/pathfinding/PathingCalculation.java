@@ -19,35 +19,79 @@
 package appeng.me.pathfinding;
 
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
+
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
+import it.unimi.dsi.fastutil.objects.Reference2IntMap;
+import it.unimi.dsi.fastutil.objects.Reference2IntOpenHashMap;
 
 import appeng.api.networking.GridFlags;
 import appeng.api.networking.IGrid;
 import appeng.api.networking.IGridMultiblock;
 import appeng.api.networking.IGridNode;
 import appeng.blockentity.networking.ControllerBlockEntity;
-import appeng.me.GridConnection;
-import appeng.me.GridNode;
 
 /**
- * Calculation to assign channels starting from the controllers. Basically a BFS, with one step each tick.
+ * Calculation to assign channels starting from the controllers. Basically a BFS.
+ * <p/>
+ * The calculation is split into three phases, so that the expensive part can run on a background thread:
+ * <ol>
+ * <li>The constructor takes a snapshot of the grid's path items on the server thread.</li>
+ * <li>{@link #compute()} runs the BFS and allocates channels on the snapshot. It only reads the snapshot and can thus
+ * run on any thread.</li>
+ * <li>{@link #applyResults()} assigns the resulting controller routes and channel counts to the path items on the
+ * server thread.</li>
+ * </ol>
+ * The snapshot is only valid as long as the grid does not change. Any change to the grid causes a repath, which
+ * discards the calculation.
  */
 public class PathingCalculation {
 
+    private static final int NO_ITEM = -1;
+
+    private static final byte FLAG_REQUIRE_CHANNEL = 1;
+    private static final byte FLAG_MULTIBLOCK = 2;
+    private static final byte FLAG_COMPRESSED_CHANNEL = 4;
+    private static final byte FLAG_CANNOT_CARRY_COMPRESSED = 8;
+    private static final byte FLAG_CANNOT_CARRY = 16;
+
+    /**
+     * All path items (nodes and connections) of the grid. Items are referred to by their index in this array.
+     */
+    private final IPathItem[] items;
+    private final boolean[] isNode;
+    private final byte[] flags;
+    private final int[] maxChannels;
+    /**
+     * The items returned by {@link IPathItem#getPossibleOptions()} for item {@code i} are stored in
+     * {@code options[optionsStart[i]]} up to (excluding) {@code options[optionsStart[i + 1]]}.
+     */
+    private final int[] optionsStart;
+    private final int[] options;
+    /**
+     * For multiblock nodes, the other nodes of the same multiblock.
+     */
+    private final int[][] multiblockNodes;
+    /**
+     * The controller nodes, from which the BFS starts.
+     */
+    private final int[] controllers;
+    private final boolean[] isController;
+
     /**
-     * Path items that are part of a multiblock that was already granted a channel.
+     * The BFS parent of each item, which is its route towards the controller.
      */
-    private final Set<IPathItem> multiblocksWithChannel = new HashSet<>();
+    private final int[] parent;
     /**
-     * The BFS queue: all the path items that need to be visited on the next tick.
+     * The number of channels that pass through each item.
      */
-    private List<IPathItem> queue = new ArrayList<>();
+    private final int[] usedChannels;
     /**
-     * Path items that are either in the queue, or have been processed already.
+     * The visited items in the order they were visited, excluding the controllers.
      */
-    private final Set<IPathItem> visited = new HashSet<>();
+    private final IntArrayList visitOrder = new IntArrayList();
     /**
      * Tracks the total number of used channels.
      */
@@ -57,63 +101,208 @@ public class PathingCalculation {
      */
     private int channelsByBlocks = 0;
 
+    private volatile boolean cancelled;
+
     /**
-     * Create a new pathing calculation from the passed grid.
+     * Create a new pathing calculation from the passed grid. Must be called on the server thread.
      */
     public PathingCalculation(IGrid grid) {
-        // Add every outgoing connection of the controllers (that doesn't point to another controller) to the list.
-        for (var node : grid.getMachineNodes(ControllerBlockEntity.class)) {
-            visited.add((IPathItem) node);
-            for (var gcc : node.getConnections()) {
-                var gc = (GridConnection) gcc;
-                if (!(gc.getOtherSide(node).getOwner() instanceof ControllerBlockEntity)) {
-                    visited.add(gc);
-                    queue.add(gc);
-                    gc.setControllerRoute((GridNode) node);
+        Reference2IntMap<IPathItem> indices = new Reference2IntOpenHashMap<>();
+        indices.defaultReturnValue(NO_ITEM);
+        List<IPathItem> itemList = new ArrayList<>();
+        for (var node : grid.getNodes()) {
+            indices.put((IPathItem) node, itemList.size());
+            itemList.add((IPathItem) node);
+        }
+        var nodeCount = itemList.size();
+        for (var i = 0; i < nodeCount; i++) {
+            for (var option : itemList.get(i).getPossibleOptions()) {
+                if (!indices.containsKey(option)) {
+                    indices.put(option, itemList.size());
+                    itemList.add(option);
                 }
             }
         }
+
+        var itemCount = itemList.size();
+        this.items = itemList.toArray(new IPathItem[0]);
+        this.isNode = new boolean[itemCount];
+        this.flags = new byte[itemCount];
+        this.maxChannels = new int[itemCount];
+        this.optionsStart = new int[itemCount + 1];
+        this.multiblockNodes = new int[itemCount][];
+        this.parent = new int[itemCount];
+        this.usedChannels = new int[itemCount];
+
+        var optionList = new IntArrayList();
+        for (var i = 0; i < itemCount; i++) {
+            var item = items[i];
+            isNode[i] = i < nodeCount;
+            flags[i] = getFlags(item);
+            maxChannels[i] = item.getMaxChannels();
+            parent[i] = NO_ITEM;
+
+            optionsStart[i] = optionList.size();
+            for (var option : item.getPossibleOptions()) {
+                var optionIndex = indices.getInt(option);
+                if (optionIndex != NO_ITEM) {
+                    optionList.add(optionIndex);
+                }
+            }
+
+            if (isNode[i] && item.hasFlag(GridFlags.MULTIBLOCK)) {
+                var multiblock = ((IGridNode) item).getService(IGridMultiblock.class);
+                if (multiblock != null) {
+                    var otherNodes = new IntArrayList();
+                    var it = multiblock.getMultiblockNodes();
+                    while (it.hasNext()) {
+                        var otherNode = it.next();
+                        var otherIndex = indices.getInt((IPathItem) otherNode);
+                        if (otherNode != item && otherIndex != NO_ITEM) {
+                            otherNodes.add(otherIndex);
+                        }
+                    }
+                    multiblockNodes[i] = otherNodes.toIntArray();
+                }
+            }
+        }
+        optionsStart[itemCount] = optionList.size();
+        this.options = optionList.toIntArray();
+
+        var controllerIndices = new IntArrayList();
+        this.isController = new boolean[itemCount];
+        for (var node : grid.getMachineNodes(ControllerBlockEntity.class)) {
+            var index = indices.getInt((IPathItem) node);
+            if (index != NO_ITEM) {
+                controllerIndices.add(index);
+                isController[index] = true;
+            }
+        }
+        this.controllers = controllerIndices.toIntArray();
+    }
+
+    private static byte getFlags(IPathItem item) {
+        byte result = 0;
+        if (item.hasFlag(GridFlags.REQUIRE_CHANNEL)) {
+            result |= FLAG_REQUIRE_CHANNEL;
+        }
+        if (item.hasFlag(GridFlags.MULTIBLOCK)) {
+            result |= FLAG_MULTIBLOCK;
+        }
+        if (item.hasFlag(GridFlags.COMPRESSED_CHANNEL)) {
+            result |= FLAG_COMPRESSED_CHANNEL;
+        }
+        if (item.hasFlag(GridFlags.CANNOT_CARRY_COMPRESSED)) {
+            result |= FLAG_CANNOT_CARRY_COMPRESSED;
+        }
+        if (item.hasFlag(GridFlags.CANNOT_CARRY)) {
+            result |= FLAG_CANNOT_CARRY;
+        }
+        return result;
     }
 
-    public void step() {
-        final List<IPathItem> oldOpen = this.queue;
-        this.queue = new ArrayList<>();
+    private boolean hasFlag(int item, byte flag) {
+        return (flags[item] & flag) != 0;
+    }
+
+    /**
+     * Runs the BFS and the channel allocation on the snapshot. Does not access the grid, and can be called from any
+     * thread.
+     */
+    public void compute() {
+        var visited = new boolean[items.length];
+        // Path items that are part of a multiblock that was already granted a channel.
+        IntSet multiblocksWithChannel = new IntOpenHashSet();
+
+        // Add every outgoing connection of the controllers (that doesn't point to another controller) to the queue.
+        var queue = new IntArrayList();
+        for (var controller : controllers) {
+            visited[controller] = true;
+        }
+        for (var controller : controllers) {
+            for (var i = optionsStart[controller]; i < optionsStart[controller + 1]; i++) {
+                var connection = options[i];
+                if (!visited[connection] && !leadsToController(connection, controller)) {
+                    visited[connection] = true;
+                    parent[connection] = controller;
+                    visitOrder.add(connection);
+                    queue.add(connection);
+                }
+            }
+        }
+
+        var nextQueue = new IntArrayList();
+        while (!queue.isEmpty()) {
+            if (cancelled) {
+                return;
+            }
+
+            for (var q = 0; q < queue.size(); q++) {
+                var current = queue.getInt(q);
+                for (var o = optionsStart[current]; o < optionsStart[current + 1]; o++) {
+                    var pi = options[o];
+                    if (visited[pi]) {
+                        continue;
+                    }
 
-        for (IPathItem i : oldOpen) {
-            for (IPathItem pi : i.getPossibleOptions()) {
-                if (!this.visited.contains(pi)) {
                     // Set BFS parent.
-                    pi.setControllerRoute(i);
+                    parent[pi] = current;
 
-                    if (pi.hasFlag(GridFlags.REQUIRE_CHANNEL)) {
-                        if (this.multiblocksWithChannel.contains(pi)) {
+                    if (hasFlag(pi, FLAG_REQUIRE_CHANNEL)) {
+                        if (multiblocksWithChannel.remove(pi)) {
                             // If this is part of a multiblock that was given a channel before, just give a channel to
                             // the node.
-                            pi.incrementChannelCount(1);
-                            this.multiblocksWithChannel.remove(pi);
+                            usedChannels[pi]++;
                         } else {
                             // Otherwise try to use the channel along the path.
                             boolean worked = tryUseChannel(pi);
 
-                            if (worked && pi.hasFlag(GridFlags.MULTIBLOCK)) {
-                                var multiblock = ((IGridNode) pi).getService(IGridMultiblock.class);
-                                if (multiblock != null) {
-                                    var oni = multiblock.getMultiblockNodes();
-                                    while (oni.hasNext()) {
-                                        final IGridNode otherNodes = oni.next();
-                                        if (otherNodes != pi) {
-                                            this.multiblocksWithChannel.add((IPathItem) otherNodes);
-                                        }
-                                    }
+                            if (worked && hasFlag(pi, FLAG_MULTIBLOCK) && multiblockNodes[pi] != null) {
+                                for (var otherNode : multiblockNodes[pi]) {
+                                    multiblocksWithChannel.add(otherNode);
                                 }
                             }
                         }
                     }
 
-                    this.visited.add(pi);
-                    this.queue.add(pi);
+                    visited[pi] = true;
+                    visitOrder.add(pi);
+                    nextQueue.add(pi);
                 }
             }
+
+            var tmp = queue;
+            queue = nextQueue;
+            nextQueue = tmp;
+            nextQueue.clear();
+        }
+    }
+
+    private boolean leadsToController(int connection, int controller) {
+        for (var i = optionsStart[connection]; i < optionsStart[connection + 1]; i++) {
+            var otherSide = options[i];
+            if (otherSide != controller && isController[otherSide]) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * The route towards the controller, as {@link IPathItem#getControllerRoute()} would return it after the BFS
+     * parents have been assigned.
+     */
+    private int getControllerRoute(int item) {
+        var route = parent[item];
+        if (route == NO_ITEM) {
+            return NO_ITEM;
+        }
+        if (isNode[item]) {
+            // Nodes that can't carry channels end the route
+            return hasFlag(item, FLAG_CANNOT_CARRY) ? NO_ITEM : route;
+        } else {
+            // Connections end the route when the node towards the controller can't carry channels
+            return hasFlag(route, FLAG_CANNOT_CARRY) ? NO_ITEM : route;
         }
     }
 
@@ -122,37 +311,58 @@ public void step() {
      *
      * @return true if allocation was successful
      */
-    private boolean tryUseChannel(IPathItem start) {
-        boolean isCompressed = start.hasFlag(GridFlags.COMPRESSED_CHANNEL);
+    private boolean tryUseChannel(int start) {
+        boolean isCompressed = hasFlag(start, FLAG_COMPRESSED_CHANNEL);
 
         // Check that the allocation is possible.
-        IPathItem pi = start;
-        while (pi != null) {
-            if (!pi.canSupportMoreChannels()) {
+        var pi = start;
+        while (pi != NO_ITEM) {
+            if (usedChannels[pi] >= maxChannels[pi]) {
                 return false;
             }
-            if (isCompressed && pi.hasFlag(GridFlags.CANNOT_CARRY_COMPRESSED)) {
+            if (isCompressed && hasFlag(pi, FLAG_CANNOT_CARRY_COMPRESSED)) {
                 // Don't send a compressed channel through this item.
                 return false;
             }
 
-            pi = pi.getControllerRoute();
+            pi = getControllerRoute(pi);
         }
 
         // Allocate the channel along the path.
         pi = start;
-        while (pi != null) {
+        while (pi != NO_ITEM) {
             channelsByBlocks++;
-            pi.incrementChannelCount(1);
-            pi = pi.getControllerRoute();
+            usedChannels[pi]++;
+            pi = getControllerRoute(pi);
         }
 
         channelsInUse++;
         return true;
     }
 
-    public boolean isFinished() {
-        return queue.isEmpty();
+    /**
+     * Assigns the computed controller routes and channel counts to the path items. Must be called on the server
+     * thread, after {@link #compute()} has finished and only if the grid has not changed since this calculation was
+     * created.
+     */
+    public void applyResults() {
+        for (var i = 0; i < visitOrder.size(); i++) {
+            var item = visitOrder.getInt(i);
+            items[item].setControllerRoute(items[parent[item]]);
+        }
+        for (var i = 0; i < visitOrder.size(); i++) {
+            var item = visitOrder.getInt(i);
+            if (usedChannels[item] > 0) {
+                items[item].incrementChannelCount(usedChannels[item]);
+            }
+        }
+    }
+
+    /**
+     * Stops a calculation that is running on another thread early. Its results must not be applied afterwards.
+     */
+    public void cancel() {
+        cancelled = true;
     }
 
     public int getChannelsInUse() {
@@ -32,9 +32,7 @@
 
 import javax.annotation.Nullable;
 
-import com.google.common.collect.HashMultimap;
 import com.google.common.collect.ImmutableSet;
-import com.google.common.collect.Multimap;
 import com.google.common.collect.Sets;
 
 import org.apache.commons.lang3.mutable.MutableObject;
@@ -116,9 +114,7 @@ public class CraftingService implements ICraftingService, IGridServiceProvider {
     private final IGrid grid;
     private final NetworkCraftingProviders craftingProviders = new NetworkCraftingProviders();
     private final Map<String, CraftingLinkNexus> craftingLinks = new HashMap<>();
-    private final Multimap<AEKey, StackWatcher<ICraftingWatcherNode>> interests = HashMultimap.create();
-    private final InterestManager<StackWatcher<ICraftingWatcherNode>> interestManager = new InterestManager<>(
-            this.interests);
+    private final InterestManager<StackWatcher<ICraftingWatcherNode>> interestManager = new InterestManager<>();
     private final IEnergyService energyGrid;
     private final Set<AEKey> currentlyCrafting = new HashSet<>();
     private boolean updateList = false;
@@ -21,7 +21,6 @@
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Iterator;
 import java.util.NavigableSet;
 import java.util.PriorityQueue;
@@ -35,6 +34,7 @@
 import com.google.common.collect.Sets;
 
 import it.unimi.dsi.fastutil.objects.ObjectRBTreeSet;
+import it.unimi.dsi.fastutil.objects.ReferenceOpenHashSet;
 
 import appeng.api.config.AccessRestriction;
 import appeng.api.config.Actionable;
@@ -115,6 +115,15 @@ public class EnergyService implements IEnergyService, IEnergyGridProvider, IGrid
     private boolean ongoingInjectOperation = false;
 
     private final Multiset<IEnergyGridProvider> energyGridProviders = HashMultiset.create();
+
+    // Reused across walks over the linked energy grid providers to avoid allocating on every extraction. Walks can in
+    // theory re-enter this grid (i.e. through events fired by a storage), in which case fresh collections are used
+    // instead of clobbering the ones that are currently in use.
+    private final Queue<IEnergyGridProvider> extractionQueue = new PriorityQueue<>(
+            COMPARATOR_HIGHEST_AMOUNT_STORED_FIRST);
+    private final Queue<IEnergyGridProvider> injectionQueue = new PriorityQueue<>(COMPARATOR_LOWEST_PERCENTAGE_FIRST);
+    private final Set<IEnergyGridProvider> reusableVisited = new ReferenceOpenHashSet<>();
+    private boolean walkInProgress = false;
     private final Grid grid;
     private final HashMap<IGridNode, IEnergyWatcher> watchers = new HashMap<>();
 
@@ -243,23 +252,40 @@ public void onServerEndTick() {
     @Override
     public double extractAEPower(double amt, Actionable mode, PowerMultiplier pm) {
         final double toExtract = pm.multiply(amt);
-        final Queue<IEnergyGridProvider> toVisit = new PriorityQueue<>(COMPARATOR_HIGHEST_AMOUNT_STORED_FIRST);
-        final Set<IEnergyGridProvider> visited = new HashSet<>();
+
+        // Without any linked energy grids, the walk below would only ever visit this grid.
+        if (this.energyGridProviders.isEmpty()) {
+            return pm.divide(this.extractProviderPower(toExtract, mode));
+        }
+
+        final boolean reuse = !this.walkInProgress;
+        final Queue<IEnergyGridProvider> toVisit = reuse ? this.extractionQueue
+                : new PriorityQueue<>(COMPARATOR_HIGHEST_AMOUNT_STORED_FIRST);
+        final Set<IEnergyGridProvider> visited = reuse ? this.reusableVisited : new ReferenceOpenHashSet<>();
+        this.walkInProgress = true;
 
         double extracted = 0;
-        toVisit.add(this);
+        try {
+            toVisit.add(this);
 
-        while (!toVisit.isEmpty() && extracted < toExtract) {
-            final IEnergyGridProvider next = toVisit.poll();
-            visited.add(next);
+            while (!toVisit.isEmpty() && extracted < toExtract) {
+                final IEnergyGridProvider next = toVisit.poll();
+                visited.add(next);
 
-            extracted += next.extractProviderPower(toExtract - extracted, mode);
+                extracted += next.extractProviderPower(toExtract - extracted, mode);
 
-            for (IEnergyGridProvider iEnergyGridProvider : next.providers()) {
-                if (!visited.contains(iEnergyGridProvider)) {
-                    toVisit.add(iEnergyGridProvider);
+                for (IEnergyGridProvider iEnergyGridProvider : next.providers()) {
+                    if (!visited.contains(iEnergyGridProvider)) {
+                        toVisit.add(iEnergyGridProvider);
+                    }
                 }
             }
+        } finally {
+            if (reuse) {
+                this.walkInProgress = false;
+                toVisit.clear();
+                visited.clear();
+            }
         }
 
         return pm.divide(extracted);
@@ -401,23 +427,38 @@ public boolean isNetworkPowered() {
 
     @Override
     public double injectPower(double amt, Actionable mode) {
-        final Queue<IEnergyGridProvider> toVisit = new PriorityQueue<>(COMPARATOR_LOWEST_PERCENTAGE_FIRST);
-        final Set<IEnergyGridProvider> visited = new HashSet<>();
-        toVisit.add(this);
+        if (this.energyGridProviders.isEmpty()) {
+            return this.injectProviderPower(amt, mode);
+        }
+
+        final boolean reuse = !this.walkInProgress;
+        final Queue<IEnergyGridProvider> toVisit = reuse ? this.injectionQueue
+                : new PriorityQueue<>(COMPARATOR_LOWEST_PERCENTAGE_FIRST);
+        final Set<IEnergyGridProvider> visited = reuse ? this.reusableVisited : new ReferenceOpenHashSet<>();
+        this.walkInProgress = true;
 
         double leftover = amt;
+        try {
+            toVisit.add(this);
 
-        while (!toVisit.isEmpty() && leftover > 0) {
-            final IEnergyGridProvider next = toVisit.poll();
-            visited.add(next);
+            while (!toVisit.isEmpty() && leftover > 0) {
+                final IEnergyGridProvider next = toVisit.poll();
+                visited.add(next);
 
-            leftover = next.injectProviderPower(leftover, mode);
+                leftover = next.injectProviderPower(leftover, mode);
 
-            for (IEnergyGridProvider iEnergyGridProvider : next.providers()) {
-                if (!visited.contains(iEnergyGridProvider)) {
-                    toVisit.add(iEnergyGridProvider);
+                for (IEnergyGridProvider iEnergyGridProvider : next.providers()) {
+                    if (!visited.contains(iEnergyGridProvider)) {
+                        toVisit.add(iEnergyGridProvider);
+                    }
                 }
             }
+        } finally {
+            if (reuse) {
+                this.walkInProgress = false;
+                toVisit.clear();
+                visited.clear();
+            }
         }
 
         return leftover;
@@ -439,23 +480,38 @@ public double getMaxStoredPower() {
 
     @Override
     public double getEnergyDemand(double maxRequired) {
-        final Queue<IEnergyGridProvider> toVisit = new PriorityQueue<>(COMPARATOR_LOWEST_PERCENTAGE_FIRST);
-        final Set<IEnergyGridProvider> visited = new HashSet<>();
-        toVisit.add(this);
+        if (this.energyGridProviders.isEmpty()) {
+            return this.getProviderEnergyDemand(maxRequired);
+        }
+
+        final boolean reuse = !this.walkInProgress;
+        final Queue<IEnergyGridProvider> toVisit = reuse ? this.injectionQueue
+                : new PriorityQueue<>(COMPARATOR_LOWEST_PERCENTAGE_FIRST);
+        final Set<IEnergyGridProvider> visited = reuse ? this.reusableVisited : new ReferenceOpenHashSet<>();
+        this.walkInProgress = true;
 
         double required = 0;
+        try {
+            toVisit.add(this);
 
-        while (!toVisit.isEmpty() && required < maxRequired) {
-            final IEnergyGridProvider next = toVisit.poll();
-            visited.add(next);
+            while (!toVisit.isEmpty() && required < maxRequired) {
+                final IEnergyGridProvider next = toVisit.poll();
+                visited.add(next);
 
-            required += next.getProviderEnergyDemand(maxRequired - required);
+                required += next.getProviderEnergyDemand(maxRequired - required);
 
-            for (IEnergyGridProvider iEnergyGridProvider : next.providers()) {
-                if (!visited.contains(iEnergyGridProvider)) {
-                    toVisit.add(iEnergyGridProvider);
+                for (IEnergyGridProvider iEnergyGridProvider : next.providers()) {
+                    if (!visited.contains(iEnergyGridProvider)) {
+                        toVisit.add(iEnergyGridProvider);
+                    }
                 }
             }
+        } finally {
+            if (reuse) {
+                this.walkInProgress = false;
+                toVisit.clear();
+                visited.clear();
+            }
         }
 
         return required;
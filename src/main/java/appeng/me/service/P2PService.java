@@ -25,6 +25,9 @@
 import com.google.common.collect.LinkedHashMultimap;
 import com.google.common.collect.Multimap;
 
+import it.unimi.dsi.fastutil.shorts.Short2LongMap;
+import it.unimi.dsi.fastutil.shorts.Short2LongOpenHashMap;
+
 import appeng.api.networking.GridFlags;
 import appeng.api.networking.GridHelper;
 import appeng.api.networking.IGrid;
@@ -59,6 +62,20 @@ public static P2PService get(IGrid grid) {
     private final HashMap<Short, P2PTunnelPart> inputs = new HashMap<>();
     private final Multimap<Short, P2PTunnelPart> outputs = LinkedHashMultimap.create();
     private final Random frequencyGenerator;
+    /**
+     * Source of all versions handed out by this service. Since every change takes a new value from this counter, a
+     * version can never repeat, even across frequencies.
+     */
+    private long versionCounter;
+    /**
+     * Updated whenever the set of tunnels on a frequency changes.
+     */
+    private final Short2LongMap frequencyVersions = new Short2LongOpenHashMap();
+    /**
+     * Updated whenever the grid finished booting or its power state changed, which can change the state of all
+     * tunnels at once.
+     */
+    private long networkVersion;
 
     public P2PService(IGrid g) {
         this.myGrid = g;
@@ -66,6 +83,7 @@ public P2PService(IGrid g) {
     }
 
     public void wakeInputTunnels() {
+        this.networkVersion = ++this.versionCounter;
         var tm = this.myGrid.getTickManager();
         for (var tunnel : this.inputs.values()) {
             if (tunnel instanceof MEP2PTunnelPart) {
@@ -86,6 +104,7 @@ public void removeNode(IGridNode node) {
             } else {
                 this.inputs.remove(tunnel.getFrequency());
             }
+            this.incrementVersion(tunnel.getFrequency());
 
             this.updateTunnel(tunnel.getFrequency(), !tunnel.isOutput(), false);
         }
@@ -105,6 +124,7 @@ public void addNode(IGridNode node) {
             } else {
                 this.inputs.put(tunnel.getFrequency(), tunnel);
             }
+            this.incrementVersion(tunnel.getFrequency());
 
             this.updateTunnel(tunnel.getFrequency(), !tunnel.isOutput(), false);
         }
@@ -131,15 +151,13 @@ private void updateTunnel(short freq, boolean updateOutputs, boolean configChang
     }
 
     public void updateFreq(P2PTunnelPart t, short newFrequency) {
-        if (this.outputs.containsValue(t)) {
-            this.outputs.remove(t.getFrequency(), t);
-        }
-
-        if (this.inputs.containsValue(t)) {
-            this.inputs.remove(t.getFrequency());
+        // The tunnel may have changed from input to output before this is called, so it is removed from both
+        var oldFrequency = t.getFrequency();
+        this.outputs.remove(oldFrequency, t);
+        if (this.inputs.get(oldFrequency) == t) {
+            this.inputs.remove(oldFrequency);
         }
 
-        var oldFrequency = t.getFrequency();
         t.setFrequency(newFrequency);
 
         if (t.isOutput()) {
@@ -147,6 +165,8 @@ public void updateFreq(P2PTunnelPart t, short newFrequency) {
         } else {
             this.inputs.put(t.getFrequency(), t);
         }
+        this.incrementVersion(oldFrequency);
+        this.incrementVersion(newFrequency);
 
         if (oldFrequency != newFrequency) {
             this.updateTunnel(oldFrequency, true, true);
@@ -185,6 +205,20 @@ public <T extends P2PTunnelPart<T>> Stream<T> getOutputs(short freq, Class<T> c)
                 .map(c::cast);
     }
 
+    private void incrementVersion(short freq) {
+        this.frequencyVersions.put(freq, ++this.versionCounter);
+    }
+
+    /**
+     * Returns a version for the tunnels on a frequency. The version changes whenever tunnels are added to or removed
+     * from the frequency, or when the state of the entire grid changes. Any such change makes it greater than every
+     * version returned before, for any frequency. Tunnels can compare it to the version they last saw to skip updates
+     * if nothing changed.
+     */
+    public long getVersion(short freq) {
+        return Math.max(this.networkVersion, this.frequencyVersions.get(freq));
+    }
+
     public P2PTunnelPart getInput(short freq) {
         return this.inputs.get(freq);
     }
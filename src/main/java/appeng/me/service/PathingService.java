@@ -20,9 +20,17 @@
 
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
 
 import javax.annotation.Nullable;
 
+import net.minecraft.CrashReport;
+import net.minecraft.ReportedException;
+
 import appeng.api.features.IPlayerRegistry;
 import appeng.api.networking.GridFlags;
 import appeng.api.networking.GridHelper;
@@ -52,7 +60,22 @@
 public class PathingService implements IPathingService, IGridServiceProvider {
     private static final String TAG_CHANNEL_MODE = "channelMode";
 
+    /**
+     * Channels are calculated on a snapshot of the grid in the background. Calculations that are discarded because
+     * their grid changed stop early.
+     */
+    private static final ExecutorService PATHING_POOL;
+
     static {
+        final ThreadFactory factory = ar -> {
+            final Thread pathing = new Thread(ar, "AE Pathing Calculator");
+            pathing.setDaemon(true);
+            return pathing;
+        };
+
+        PATHING_POOL = Executors.newFixedThreadPool(Math.max(1, Runtime.getRuntime().availableProcessors() / 2),
+                factory);
+
         GridHelper.addGridServiceEventHandler(GridChannelRequirementChanged.class,
                 IPathingService.class,
                 (service, event) -> {
@@ -60,7 +83,10 @@ public class PathingService implements IPathingService, IGridServiceProvider {
                 });
     }
 
+    @Nullable
     private PathingCalculation ongoingCalculation = null;
+    @Nullable
+    private CompletableFuture<Void> ongoingCalculationTask = null;
     private final Set<ControllerBlockEntity> controllers = new HashSet<>();
     private final Set<IGridNode> nodesNeedingChannels = new HashSet<>();
     private final Set<IGridNode> cannotCarryCompressedNodes = new HashSet<>();
@@ -124,22 +150,27 @@ public void onServerEndTick() {
             } else if (this.controllerState == ControllerState.CONTROLLER_CONFLICT) {
                 this.grid.getPivot().beginVisit(new AdHocChannelUpdater(0));
             } else {
-                this.ongoingCalculation = new PathingCalculation(grid);
+                var calculation = new PathingCalculation(grid);
+                this.ongoingCalculation = calculation;
+                this.ongoingCalculationTask = CompletableFuture.runAsync(calculation::compute, PATHING_POOL);
             }
         }
 
         if (this.booting) {
-            // Work on remaining pathfinding work
-            if (ongoingCalculation != null) { // can be null for ad-hoc or invalid controller state
-                for (var i = 0; i < AEConfig.instance().getPathfindingStepsPerTick(); i++) {
-                    ongoingCalculation.step();
-                    if (ongoingCalculation.isFinished()) {
-                        this.channelsByBlocks = ongoingCalculation.getChannelsByBlocks();
-                        this.channelsInUse = ongoingCalculation.getChannelsInUse();
-                        ongoingCalculation = null;
-                        break;
-                    }
+            // Pick up the result of the pathfinding once it has completed in the background
+            if (ongoingCalculation != null && ongoingCalculationTask.isDone()) {
+                try {
+                    ongoingCalculationTask.join();
+                } catch (CompletionException e) {
+                    CrashReport crashReport = CrashReport.forThrowable(e.getCause(), "Calculating channels of grid");
+                    this.grid.fillCrashReportCategory(crashReport.addCategory("Grid being calculated"));
+                    throw new ReportedException(crashReport);
                 }
+                ongoingCalculation.applyResults();
+                this.channelsByBlocks = ongoingCalculation.getChannelsByBlocks();
+                this.channelsInUse = ongoingCalculation.getChannelsInUse();
+                ongoingCalculation = null;
+                ongoingCalculationTask = null;
             }
 
             bootingTicks++;
@@ -314,6 +345,17 @@ public ControllerState getControllerState() {
         return this.controllerState;
     }
 
+    /**
+     * Cancels the channel calculation that is running in the background, if any. Its results are discarded.
+     */
+    public void cancelCalculation() {
+        if (this.ongoingCalculation != null) {
+            this.ongoingCalculation.cancel();
+            this.ongoingCalculation = null;
+            this.ongoingCalculationTask = null;
+        }
+    }
+
     @Override
     public void repath() {
         if (!this.channelModeLocked) {
@@ -321,7 +363,7 @@ public void repath() {
         }
 
         // clean up...
-        this.ongoingCalculation = null;
+        this.cancelCalculation();
 
         this.channelsByBlocks = 0;
         this.reboot = true;
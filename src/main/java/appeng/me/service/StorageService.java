@@ -21,15 +21,17 @@
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
+import javax.annotation.Nullable;
+
 import com.google.common.base.Preconditions;
-import com.google.common.collect.HashMultimap;
-import com.google.common.collect.SetMultimap;
 
 import it.unimi.dsi.fastutil.objects.Object2LongMap;
+import it.unimi.dsi.fastutil.objects.Object2LongMaps;
 import it.unimi.dsi.fastutil.objects.Object2LongOpenHashMap;
 
 import appeng.api.networking.IGridNode;
@@ -56,9 +58,7 @@ public class StorageService implements IStorageService, IGridServiceProvider {
      * Tracks state for storage providers that are provided by other grid services (i.e. crafting).
      */
     private final List<ProviderState> globalProviders = new ArrayList<>();
-    private final SetMultimap<AEKey, StackWatcher<IStorageWatcherNode>> interests = HashMultimap.create();
-    private final InterestManager<StackWatcher<IStorageWatcherNode>> interestManager = new InterestManager<>(
-            this.interests);
+    private final InterestManager<StackWatcher<IStorageWatcherNode>> interestManager = new InterestManager<>();
     private final NetworkStorage storage;
     /**
      * Publicly exposed cached available stacks.
@@ -70,6 +70,16 @@ public class StorageService implements IStorageService, IGridServiceProvider {
      * {@link #cachedAvailableStacks} is modified by mistake.
      */
     private final Object2LongMap<AEKey> cachedAvailableAmounts = new Object2LongOpenHashMap<>();
+    /**
+     * Sum of {@link #cachedAvailableAmounts}, so that consumers interested only in the total do not have to iterate.
+     */
+    private long cachedTotalAmount;
+    /**
+     * Read-only copy of the cached inventory that is shared between crafting calculations, which read from it on their
+     * own thread. It is only rebuilt once the cached inventory has actually changed.
+     */
+    @Nullable
+    private KeyCounter cachedInventorySnapshot;
     private boolean cachedStacksNeedUpdate = true;
     /**
      * Tracks the stack watcher associated with a given grid node. Needed to clean up watchers when the node leaves the
@@ -104,36 +114,60 @@ private void updateCachedStacks() {
         currentStacks.clear();
         storage.getAvailableStacks(currentStacks);
 
-        // Post watcher update for currently available stacks
+        // Collect the changes for the watchers, including removed stacks
+        var changes = new Object2LongOpenHashMap<AEKey>();
         for (var entry : currentStacks) {
             var what = entry.getKey();
             var newAmount = entry.getLongValue();
             if (newAmount != cachedAvailableAmounts.getLong(what)) {
-                postWatcherUpdate(what, newAmount);
+                changes.put(what, newAmount);
             }
         }
-        // Post watcher update for removed stacks
         for (var entry : cachedAvailableAmounts.object2LongEntrySet()) {
             var what = entry.getKey();
-            var newAmount = currentStacks.get(what);
-            if (newAmount == 0) {
-                postWatcherUpdate(what, newAmount);
+            if (currentStacks.get(what) == 0) {
+                changes.put(what, 0);
             }
         }
 
+        if (!changes.isEmpty()) {
+            cachedInventorySnapshot = null;
+        }
+
         // Update private amounts
         cachedAvailableAmounts.clear();
+        cachedTotalAmount = 0;
         for (var entry : currentStacks) {
-            cachedAvailableAmounts.put(entry.getKey(), entry.getLongValue());
+            var amount = entry.getLongValue();
+            cachedAvailableAmounts.put(entry.getKey(), amount);
+            cachedTotalAmount = amount > Long.MAX_VALUE - cachedTotalAmount ? Long.MAX_VALUE
+                    : cachedTotalAmount + amount;
+        }
+
+        if (!changes.isEmpty()) {
+            postWatcherUpdates(Object2LongMaps.unmodifiable(changes));
         }
     }
 
-    private void postWatcherUpdate(AEKey what, long newAmount) {
-        for (var watcher : interestManager.get(what)) {
-            watcher.getHost().onStackChange(what, newAmount);
+    /**
+     * Notifies every watcher once about all of the changes it is interested in.
+     */
+    private void postWatcherUpdates(Object2LongMap<AEKey> changes) {
+        Map<StackWatcher<IStorageWatcherNode>, Object2LongMap<AEKey>> changesByWatcher = new LinkedHashMap<>();
+        for (var entry : changes.object2LongEntrySet()) {
+            var watchers = interestManager.get(entry.getKey());
+            for (var i = 0; i < watchers.size(); i++) {
+                changesByWatcher.computeIfAbsent(watchers.get(i), w -> new Object2LongOpenHashMap<>())
+                        .put(entry.getKey(), entry.getLongValue());
+            }
+        }
+        for (var entry : changesByWatcher.entrySet()) {
+            entry.getKey().getHost().onStackChanges(Object2LongMaps.unmodifiable(entry.getValue()));
         }
-        for (var watcher : interestManager.getAllStacksWatchers()) {
-            watcher.getHost().onStackChange(what, newAmount);
+
+        var allStacksWatchers = interestManager.getAllStacksWatchers();
+        for (var i = 0; i < allStacksWatchers.size(); i++) {
+            allStacksWatchers.get(i).getHost().onStackChanges(changes);
         }
     }
 
@@ -188,6 +222,32 @@ public KeyCounter getCachedInventory() {
         return cachedAvailableStacks;
     }
 
+    /**
+     * Returns a copy of {@link #getCachedInventory()} that is never modified after it has been created, and can thus
+     * be read from other threads. The same copy is returned until the cached inventory changes.
+     */
+    public KeyCounter getCachedInventorySnapshot() {
+        var cachedInventory = getCachedInventory();
+        if (cachedInventorySnapshot == null) {
+            var snapshot = new KeyCounter();
+            for (var entry : cachedInventory) {
+                if (entry.getLongValue() > 0) {
+                    snapshot.add(entry.getKey(), entry.getLongValue());
+                }
+            }
+            cachedInventorySnapshot = snapshot;
+        }
+        return cachedInventorySnapshot;
+    }
+
+    @Override
+    public long getCachedTotalAmount() {
+        if (cachedStacksNeedUpdate) {
+            updateCachedStacks();
+        }
+        return cachedTotalAmount;
+    }
+
     @Override
     public void addGlobalStorageProvider(IStorageProvider provider) {
         var state = new ProviderState(provider);
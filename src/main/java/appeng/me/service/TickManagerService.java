@@ -39,7 +39,10 @@
 import appeng.api.networking.ticking.IGridTickable;
 import appeng.api.networking.ticking.ITickManager;
 import appeng.api.networking.ticking.TickRateModulation;
+import appeng.hooks.ticking.TickHandler;
 import appeng.me.GridNode;
+import appeng.me.helpers.GridProfiler;
+import appeng.me.service.helpers.DeviceTickBudget;
 import appeng.me.service.helpers.TickTracker;
 
 public class TickManagerService implements ITickManager, IGridServiceProvider {
@@ -60,6 +63,12 @@ public class TickManagerService implements ITickManager, IGridServiceProvider {
     private final Stopwatch stopWatch = Stopwatch.createUnstarted();
     @Nullable
     private IGridNode currentlyTicking;
+    /**
+     * Whether due devices had to be left for later because the {@link DeviceTickBudget} was used up, in the current
+     * and in the previous server tick.
+     */
+    private boolean ticksDeferred;
+    private boolean ticksDeferredLastTick;
 
     public TickManagerService() {
     }
@@ -67,6 +76,8 @@ public TickManagerService() {
     @Override
     public void onServerStartTick() {
         this.currentTick++;
+        this.ticksDeferredLastTick = this.ticksDeferred;
+        this.ticksDeferred = false;
     }
 
     @Override
@@ -89,10 +100,14 @@ private void tickLevelQueue(@Nullable Level level) {
         if (queue != null) {
             currentlyTickingQueue = queue;
 
+            // Only the time spent ticking devices counts against the budget
+            var budget = TickHandler.instance().getDeviceTickBudget();
+            budget.beginDevices();
             try {
                 tickQueue(queue);
             } finally {
                 currentlyTickingQueue = null;
+                budget.endDevices();
             }
 
             if (queue.isEmpty()) {
@@ -102,6 +117,8 @@ private void tickLevelQueue(@Nullable Level level) {
     }
 
     private void tickQueue(PriorityQueue<TickTracker> queue) {
+        var budget = TickHandler.instance().getDeviceTickBudget();
+        var ticked = 0;
         TickTracker tt;
 
         while (!queue.isEmpty()) {
@@ -111,6 +128,14 @@ private void tickQueue(PriorityQueue<TickTracker> queue) {
                 break;
             }
 
+            // Leave the remaining due devices for the next tick, where they'll be first in the queue since they're
+            // overdue. Every grid ticks at least one device per tick, so none of them can be starved.
+            if (ticked > 0 && budget.isGridTimeExceeded()) {
+                this.ticksDeferred = true;
+                break;
+            }
+            ticked++;
+
             if (queue.poll() != tt) {
                 throw new IllegalStateException();
             }
@@ -258,6 +283,13 @@ public boolean wakeDevice(IGridNode node) {
         return false;
     }
 
+    /**
+     * @return True if some devices that were due in the last server tick had to be deferred to the current tick.
+     */
+    public boolean wereTicksDeferredLastTick() {
+        return this.ticksDeferredLastTick;
+    }
+
     /**
      * Reports the average time for a gridnode
      * <p>
@@ -365,6 +397,7 @@ private TickRateModulation unsafeTickingRequest(TickTracker tt, int diff) {
             stopWatch.stop();
             var elapsedTime = stopWatch.elapsed(TimeUnit.NANOSECONDS);
             tt.getStatistics().accept(elapsedTime);
+            GridProfiler.recordNodeTick(tt.getNode(), elapsedTime);
 
             return mod;
         } catch (Throwable t) {
@@ -0,0 +1,105 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2021, TeamAppliedEnergistics, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.me.service.helpers;
+
+/**
+ * Limits the time spent ticking the devices of all grids in a server tick. Grids tick their devices in multiple passes
+ * per server tick (once per level, and once at the end of the server tick). The remaining time is shared equally
+ * between the passes that are still to come, and the time of a pass is shared equally between the grids that are
+ * still to be ticked in it. This way, the time that one grid or pass doesn't need is available to those after it,
+ * while a single busy grid or level can't take the time of all others. Devices that don't fit are ticked in the
+ * following ticks.
+ * <p>
+ * Only the time spent ticking devices is counted, the time grid services spend on their own ticks is not.
+ */
+public class DeviceTickBudget {
+
+    private boolean limited;
+    private long remainingTime;
+    private int passesRemaining;
+    private long passTime;
+    private long gridShare;
+    private boolean gridActive;
+    private long devicesStartTime;
+    private long devicesDeadline;
+    private boolean devicesActive;
+
+    /**
+     * Starts a new server tick.
+     *
+     * @param budgetNanos The time available for ticking devices in this server tick.
+     * @param passes      The number of passes in which grids will be ticked in this server tick.
+     */
+    public void startTick(long budgetNanos, int passes) {
+        this.limited = true;
+        this.remainingTime = budgetNanos;
+        this.passesRemaining = passes;
+    }
+
+    /**
+     * Grants the next pass over all grids its share of the remaining time.
+     */
+    public void beginPass() {
+        this.passTime = Math.max(0, remainingTime) / Math.max(1, passesRemaining);
+        this.passesRemaining--;
+    }
+
+    /**
+     * Grants the next grid its share of the remaining time of the current pass.
+     *
+     * @param gridsRemaining The number of grids that still need to be ticked in this pass, including the next one.
+     */
+    public void beginGrid(int gridsRemaining) {
+        this.gridActive = true;
+        this.gridShare = Math.max(0, passTime) / Math.max(1, gridsRemaining);
+    }
+
+    public void endGrid() {
+        this.gridActive = false;
+    }
+
+    /**
+     * Starts measuring the time the current grid spends on ticking its devices.
+     */
+    public void beginDevices() {
+        if (limited && gridActive) {
+            this.devicesActive = true;
+            this.devicesStartTime = System.nanoTime();
+            this.devicesDeadline = devicesStartTime + gridShare;
+        }
+    }
+
+    public void endDevices() {
+        if (devicesActive) {
+            this.devicesActive = false;
+            var elapsed = System.nanoTime() - devicesStartTime;
+            this.remainingTime -= elapsed;
+            this.passTime -= elapsed;
+            this.gridShare = Math.max(0, gridShare - elapsed);
+        }
+    }
+
+    /**
+     * @return True if the grid that is currently ticking its devices has used up its share of the time. Always false
+     *         outside of {@link #beginGrid} and {@link #endGrid}, i.e. when grids are ticked by tests.
+     */
+    public boolean isGridTimeExceeded() {
+        return devicesActive && System.nanoTime() > devicesDeadline;
+    }
+}
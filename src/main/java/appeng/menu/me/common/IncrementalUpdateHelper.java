@@ -20,6 +20,7 @@
 
 import java.util.HashSet;
 import java.util.Iterator;
+import java.util.LinkedHashSet;
 import java.util.Set;
 import java.util.Spliterator;
 import java.util.function.Consumer;
@@ -42,6 +43,12 @@
  */
 public class IncrementalUpdateHelper implements Iterable<AEKey> {
 
+    /**
+     * The maximum number of retired serials that are kept, see {@link #retireSerial}. The client evicts the keys of
+     * retired serials in the same order, so both sides need to agree on this limit.
+     */
+    public static final int MAX_RETIRED_SERIALS = 1024;
+
     /**
      * Maps stacks to serial numbers. This relies on the fact that these stacks are equal iff their type is equal, and
      * two stacks with different counts are still equal.
@@ -50,6 +57,11 @@ public class IncrementalUpdateHelper implements Iterable<AEKey> {
 
     private final Set<AEKey> changes = new HashSet<>();
 
+    /**
+     * Keys whose serial has been retired, in the order they were retired.
+     */
+    private final Set<AEKey> retired = new LinkedHashSet<>();
+
     private long serial;
 
     /**
@@ -92,6 +104,7 @@ public void reset() {
         clear();
         this.serial = 0;
         this.mapping.clear();
+        this.retired.clear();
     }
 
     public void addChange(AEKey entry) {
@@ -107,6 +120,29 @@ public void addChange(AEKey entry) {
      */
     public void removeSerial(AEKey what) {
         mapping.remove(what);
+        retired.remove(what);
+    }
+
+    /**
+     * Marks the serial of a key that the client no longer shows as retired. The serial of a retired key is kept, so
+     * that its key does not have to be sent again if it returns, but only for the {@link #MAX_RETIRED_SERIALS} most
+     * recently retired keys. Older ones are removed like with {@link #removeSerial}.
+     */
+    public void retireSerial(AEKey what) {
+        retired.remove(what);
+        retired.add(what);
+        if (retired.size() > MAX_RETIRED_SERIALS) {
+            var it = retired.iterator();
+            mapping.remove(it.next());
+            it.remove();
+        }
+    }
+
+    /**
+     * Marks the serial of a key as in use again after it has been {@link #retireSerial retired}.
+     */
+    public void reviveSerial(AEKey what) {
+        retired.remove(what);
     }
 
     public void commitChanges() {
@@ -106,6 +106,11 @@ public class CraftConfirmMenu extends AEBaseMenu implements ISubMenu {
 
     private CraftingPlanSummary plan;
 
+    /**
+     * Index of the next entry of {@link #plan} that has to be sent to the client, or -1 if the plan was fully sent.
+     */
+    private int nextPlanEntryToSend = -1;
+
     private final ITerminalHost host;
 
     /**
@@ -230,8 +235,7 @@ public void broadcastChanges() {
                 }
 
                 this.plan = CraftingPlanSummary.fromJob(getGrid(), getActionSrc(), this.result);
-
-                sendPacketToClient(new CraftConfirmPlanPacket(plan));
+                this.nextPlanEntryToSend = 0;
             } catch (Throwable e) {
                 this.getPlayerInventory().player.sendSystemMessage(Component.literal("Error: " + e));
                 AELog.debug(e);
@@ -241,6 +245,15 @@ public void broadcastChanges() {
 
             this.job = null;
         }
+
+        // Send at most one page of the plan per tick
+        if (this.plan != null && this.nextPlanEntryToSend != -1) {
+            var packet = new CraftConfirmPlanPacket(this.plan, this.nextPlanEntryToSend);
+            sendPacketToClient(packet);
+            var nextEntry = packet.getNextEntry();
+            this.nextPlanEntryToSend = nextEntry < this.plan.getEntries().size() ? nextEntry : -1;
+        }
+
         this.verifyPermissions(SecurityPermissions.CRAFT, false);
     }
 
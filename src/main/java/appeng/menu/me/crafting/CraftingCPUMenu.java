@@ -18,6 +18,8 @@
 
 package appeng.menu.me.crafting;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.function.Consumer;
 
 import net.minecraft.network.chat.Component;
@@ -47,6 +49,8 @@ public class CraftingCPUMenu extends AEBaseMenu {
 
     private static final String ACTION_CANCEL_CRAFTING = "cancelCrafting";
 
+    private static final int UPDATE_INTERVAL = 5;
+
     public static final MenuType<CraftingCPUMenu> TYPE = MenuTypeBuilder
             .create(CraftingCPUMenu::new, CraftingBlockEntity.class)
             .requirePermission(SecurityPermissions.CRAFT)
@@ -64,6 +68,15 @@ public class CraftingCPUMenu extends AEBaseMenu {
     private final IGrid grid;
     private CraftingCPUCluster cpu = null;
     private final Consumer<AEKey> cpuChangeListener = incrementalUpdateHelper::addChange;
+    /**
+     * The status entries that the client currently knows about.
+     */
+    private final Map<AEKey, CraftingStatusEntry> sentEntries = new HashMap<>();
+    /**
+     * Game time at which the last status update was sent to the client. Running jobs change their status almost every
+     * tick, so incremental updates are collected over {@link #UPDATE_INTERVAL} ticks before they are sent.
+     */
+    private long lastUpdateTime;
 
     @GuiSync(0)
     public CpuSelectionMode schedulingMode = CpuSelectionMode.ANY;
@@ -144,11 +157,17 @@ public void broadcastChanges() {
             this.schedulingMode = this.cpu.getSelectionMode();
             this.cantStoreItems = this.cpu.craftingLogic.isCantStoreItems();
 
-            if (this.incrementalUpdateHelper.hasChanges()) {
-                CraftingStatus status = CraftingStatus.create(this.incrementalUpdateHelper, this.cpu.craftingLogic);
+            var now = getPlayer().level.getGameTime();
+            if (this.incrementalUpdateHelper.isFullUpdate()
+                    || this.incrementalUpdateHelper.hasChanges() && now - this.lastUpdateTime >= UPDATE_INTERVAL) {
+                CraftingStatus status = CraftingStatus.create(this.incrementalUpdateHelper, this.cpu.craftingLogic,
+                        this.sentEntries);
                 this.incrementalUpdateHelper.commitChanges();
+                this.lastUpdateTime = now;
 
-                sendPacketToClient(new CraftingStatusPacket(status));
+                if (status.isFullStatus() || !status.getEntries().isEmpty()) {
+                    sendPacketToClient(new CraftingStatusPacket(status));
+                }
             }
         }
 
@@ -18,8 +18,11 @@
 
 package appeng.menu.me.crafting;
 
+import java.util.ArrayList;
 import java.util.List;
 
+import javax.annotation.Nullable;
+
 import com.google.common.collect.ImmutableList;
 
 import net.minecraft.network.FriendlyByteBuf;
@@ -47,10 +50,22 @@ public class CraftingPlanSummary {
 
     private final List<CraftingPlanSummaryEntry> entries;
 
+    /**
+     * The number of entries in the complete plan. On the client, this can be larger than the number of entries
+     * received so far, since large plans are transferred in multiple pages.
+     */
+    private final int totalEntries;
+
     public CraftingPlanSummary(long usedBytes, boolean simulation, List<CraftingPlanSummaryEntry> entries) {
+        this(usedBytes, simulation, entries, entries.size());
+    }
+
+    private CraftingPlanSummary(long usedBytes, boolean simulation, List<CraftingPlanSummaryEntry> entries,
+            int totalEntries) {
         this.usedBytes = usedBytes;
         this.simulation = simulation;
         this.entries = entries;
+        this.totalEntries = totalEntries;
     }
 
     public long getUsedBytes() {
@@ -65,26 +80,59 @@ public List<CraftingPlanSummaryEntry> getEntries() {
         return entries;
     }
 
-    public void write(FriendlyByteBuf buffer) {
+    /**
+     * @return True if all entries of the plan have been received.
+     */
+    public boolean isComplete() {
+        return entries.size() >= totalEntries;
+    }
+
+    /**
+     * Writes the plan's header, followed by as many entries starting at <code>firstEntry</code> as fit within the
+     * given number of bytes. At least one entry is always written if any remain.
+     *
+     * @return The index of the first entry that was not written.
+     */
+    public int writePage(FriendlyByteBuf buffer, int firstEntry, int byteLimit) {
         buffer.writeVarLong(usedBytes);
         buffer.writeBoolean(simulation);
-        buffer.writeVarInt(entries.size());
-        for (CraftingPlanSummaryEntry entry : entries) {
-            entry.write(buffer);
+        buffer.writeVarInt(totalEntries);
+        buffer.writeVarInt(firstEntry);
+
+        // This is a placeholder for the entry count of this page, since we only know it after writing the entries
+        var entryCountOffset = buffer.writerIndex();
+        buffer.writeInt(0);
+
+        var startIndex = buffer.writerIndex();
+        var nextEntry = firstEntry;
+        while (nextEntry < entries.size()
+                && (nextEntry == firstEntry || buffer.writerIndex() - startIndex < byteLimit)) {
+            entries.get(nextEntry++).write(buffer);
         }
-    }
 
-    public static CraftingPlanSummary read(FriendlyByteBuf buffer) {
+        buffer.markWriterIndex();
+        buffer.writerIndex(entryCountOffset);
+        buffer.writeInt(nextEntry - firstEntry);
+        buffer.resetWriterIndex();
+
+        return nextEntry;
+    }
 
-        long bytesUsed = buffer.readVarLong();
+    /**
+     * Reads a page written by {@link #writePage}.
+     */
+    public static Page readPage(FriendlyByteBuf buffer) {
+        long usedBytes = buffer.readVarLong();
         boolean simulation = buffer.readBoolean();
-        int entryCount = buffer.readVarInt();
-        ImmutableList.Builder<CraftingPlanSummaryEntry> entries = ImmutableList.builder();
+        int totalEntries = buffer.readVarInt();
+        int firstEntry = buffer.readVarInt();
+        int entryCount = buffer.readInt();
+
+        var entries = new ArrayList<CraftingPlanSummaryEntry>(entryCount);
         for (int i = 0; i < entryCount; i++) {
             entries.add(CraftingPlanSummaryEntry.read(buffer));
         }
-
-        return new CraftingPlanSummary(bytesUsed, simulation, entries.build());
+        return new Page(usedBytes, simulation, totalEntries, firstEntry, entries);
     }
 
     private static class KeyStats {
@@ -92,6 +140,26 @@ private static class KeyStats {
         public long crafting;
     }
 
+    /**
+     * A part of a crafting plan as it was received by the client.
+     */
+    public record Page(long usedBytes, boolean simulation, int totalEntries, int firstEntry,
+            List<CraftingPlanSummaryEntry> entries) {
+        /**
+         * If this is the first page of a plan, a new plan is returned. Otherwise the entries of this page are appended
+         * to the given partially received plan. Pages that do not continue the given plan are ignored.
+         */
+        @Nullable
+        public CraftingPlanSummary applyTo(@Nullable CraftingPlanSummary previous) {
+            if (firstEntry == 0) {
+                return new CraftingPlanSummary(usedBytes, simulation, new ArrayList<>(entries), totalEntries);
+            } else if (previous != null && !previous.isComplete() && previous.entries.size() == firstEntry) {
+                previous.entries.addAll(entries);
+            }
+            return previous;
+        }
+    }
+
     /**
      * Creates a plan summary from the given planning result.
      *
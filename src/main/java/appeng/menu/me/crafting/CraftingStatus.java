@@ -20,11 +20,13 @@
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 
 import com.google.common.collect.ImmutableList;
 
 import net.minecraft.network.FriendlyByteBuf;
 
+import appeng.api.stacks.AEKey;
 import appeng.crafting.execution.CraftingCpuLogic;
 import appeng.crafting.execution.ElapsedTimeTracker;
 import appeng.menu.me.common.IncrementalUpdateHelper;
@@ -118,9 +120,20 @@ public static CraftingStatus read(FriendlyByteBuf buffer) {
         return new CraftingStatus(fullStatus, elapsedTime, remainingItemCount, startItemCount, entries.build());
     }
 
-    public static CraftingStatus create(IncrementalUpdateHelper changes, CraftingCpuLogic logic) {
+    /**
+     * Creates a status update for the given changes.
+     *
+     * @param sentEntries The entries that were last sent to the client, by key. Changed keys whose amounts match what
+     *                    was last sent are omitted from incremental updates. This map is updated to reflect the
+     *                    returned status.
+     */
+    public static CraftingStatus create(IncrementalUpdateHelper changes, CraftingCpuLogic logic,
+            Map<AEKey, CraftingStatusEntry> sentEntries) {
 
         boolean full = changes.isFullUpdate();
+        if (full) {
+            sentEntries.clear();
+        }
 
         ImmutableList.Builder<CraftingStatusEntry> newEntries = ImmutableList.builder();
         for (var what : changes) {
@@ -128,6 +141,20 @@ public static CraftingStatus create(IncrementalUpdateHelper changes, CraftingCpu
             long activeCount = logic.getWaitingFor(what);
             long pendingCount = logic.getPendingOutputs(what);
 
+            // Changes within the same tick may cancel each other out, in which case there's nothing to send
+            var sentEntry = sentEntries.get(what);
+            if (sentEntry != null && sentEntry.getStoredAmount() == storedCount
+                    && sentEntry.getActiveAmount() == activeCount && sentEntry.getPendingAmount() == pendingCount) {
+                continue;
+            }
+
+            boolean deleted = storedCount == 0 && activeCount == 0 && pendingCount == 0;
+            if (deleted && sentEntry == null) {
+                // The client doesn't know about this key, so there's nothing to delete
+                changes.removeSerial(what);
+                continue;
+            }
+
             var sentStack = what;
             if (!full && changes.getSerial(what) != null) {
                 // The item was already sent to the client, so we can skip the item stack
@@ -140,11 +167,14 @@ public static CraftingStatus create(IncrementalUpdateHelper changes, CraftingCpu
                     storedCount,
                     activeCount,
                     pendingCount);
-            newEntries.add(entry);
 
-            if (entry.isDeleted()) {
+            if (deleted) {
                 changes.removeSerial(what);
+                sentEntries.remove(what);
+            } else {
+                sentEntries.put(what, entry);
             }
+            newEntries.add(entry);
         }
 
         long elapsedTime = logic.getElapsedTimeTracker().getElapsedTime();
@@ -18,8 +18,12 @@
 
 package appeng.parts.automation;
 
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import javax.annotation.Nullable;
 
@@ -49,6 +53,7 @@
 import appeng.api.util.AECableType;
 import appeng.core.definitions.AEItems;
 import appeng.core.settings.TickRates;
+import appeng.hooks.ticking.TickHandler;
 import appeng.items.parts.PartModels;
 import appeng.me.helpers.MachineSource;
 import appeng.parts.BasicStatePart;
@@ -74,6 +79,12 @@ public static List<IPartModel> getModels() {
 
     private PickupStrategy pendingPickupStrategy;
 
+    /**
+     * Entities that collided with the plane, by the strategy that will pick them up. They are picked up together at the
+     * start of the next tick, so that all entities holding the same item are inserted into the grid at once.
+     */
+    private final Map<PickupStrategy, Set<Entity>> pendingEntityPickups = new IdentityHashMap<>();
+
     /**
      * Enchantments found on the plane when it was placed will be used to enchant the fake tool used for picking up
      * blocks.
@@ -245,7 +256,33 @@ public void onEntityCollision(Entity entity) {
         };
 
         if (capture) {
-            if (!strategy.pickUpEntity(grid.getEnergyService(), this::insertIntoGrid, entity)) {
+            if (pendingEntityPickups.isEmpty()) {
+                TickHandler.instance().addCallable(getLevel(), this::pickUpPendingEntities);
+            }
+            pendingEntityPickups.computeIfAbsent(strategy, s -> new LinkedHashSet<>()).add(entity);
+        }
+    }
+
+    private void pickUpPendingEntities() {
+        var pickups = new ArrayList<>(pendingEntityPickups.entrySet());
+        pendingEntityPickups.clear();
+
+        var grid = getMainNode().getGrid();
+        if (grid == null || !this.getMainNode().isActive()) {
+            return;
+        }
+
+        for (var pickup : pickups) {
+            var entities = new ArrayList<Entity>(pickup.getValue().size());
+            for (var entity : pickup.getValue()) {
+                // The entity might have been picked up by something else in the meantime
+                if (entity.isAlive()) {
+                    entities.add(entity);
+                }
+            }
+
+            if (!entities.isEmpty()
+                    && !pickup.getKey().pickUpEntities(grid.getEnergyService(), this::insertIntoGrid, entities)) {
                 // we need to wake up the block entity in case an entity pickup fails
                 // to reset the "blocked" flags internal to the pickup strategy.
                 getMainNode().ifPresent((g, n) -> g.getTickManager().alertDevice(n));
@@ -1,6 +1,8 @@
 package appeng.parts.automation;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ThreadLocalRandom;
@@ -71,23 +73,32 @@ public boolean canPickUpEntity(Entity entity) {
     }
 
     public boolean pickUpEntity(IEnergySource energySource, PickupSink sink, Entity entity) {
-        if (!this.isAccepting || !(entity instanceof ItemEntity itemEntity)) {
-            return false;
-        }
+        return pickUpEntities(energySource, sink, List.of(entity));
+    }
 
-        if (isItemBlacklisted(itemEntity.getItem().getItem())) {
+    @Override
+    public boolean pickUpEntities(IEnergySource energySource, PickupSink sink, List<? extends Entity> entities) {
+        if (!this.isAccepting) {
             return false;
         }
 
-        var changed = this.storeEntityItem(sink, itemEntity);
+        var pickedUpAll = true;
+        var itemEntities = new ArrayList<ItemEntity>(entities.size());
+        for (var entity : entities) {
+            if (entity instanceof ItemEntity itemEntity && !isItemBlacklisted(itemEntity.getItem().getItem())) {
+                itemEntities.add(itemEntity);
+            } else {
+                pickedUpAll = false;
+            }
+        }
 
-        if (changed) {
+        for (var entity : this.storeEntityItems(sink, itemEntities)) {
             AppEng.instance().sendToAllNearExcept(null, pos.getX(), pos.getY(), pos.getZ(), 64,
                     level, new ItemTransitionEffectPacket(entity.getX(),
                             entity.getY(), entity.getZ(), side));
         }
 
-        return true;
+        return pickedUpAll;
     }
 
     @Override
@@ -147,18 +158,53 @@ public void completePickup(IEnergySource energySource, PickupSink sink) {
     }
 
     /**
-     * Stores an {@link ItemEntity} inside the network and either marks it as dead or sets it to the leftover stackSize.
+     * Stores the items of multiple {@link ItemEntity} inside the network and either marks them as dead or sets them to
+     * the leftover stackSize. Entities holding the same item are combined, so that each item is only inserted once.
      *
-     * @param entityItem {@link ItemEntity} to store
+     * @param entityItems {@link ItemEntity} to store
+     * @return the entities that were changed
      */
-    private boolean storeEntityItem(PickupSink sink, ItemEntity entityItem) {
-        if (entityItem.isAlive()) {
-            var inserted = this.storeItemStack(sink, entityItem.getItem());
+    private List<ItemEntity> storeEntityItems(PickupSink sink, List<ItemEntity> entityItems) {
+        Map<AEItemKey, List<ItemEntity>> entitiesByItem = new LinkedHashMap<>();
+        for (var entityItem : entityItems) {
+            if (entityItem.isAlive() && !entityItem.getItem().isEmpty()) {
+                var what = AEItemKey.of(entityItem.getItem());
+                var entities = entitiesByItem.computeIfAbsent(what, k -> new ArrayList<>());
+                // The same entity must not be counted twice
+                if (!entities.contains(entityItem)) {
+                    entities.add(entityItem);
+                }
+            }
+        }
 
-            return this.handleOverflow(entityItem, inserted);
+        var changed = new ArrayList<ItemEntity>();
+        for (var entry : entitiesByItem.entrySet()) {
+            var entities = entry.getValue();
+
+            long amount = 0;
+            for (var entityItem : entities) {
+                amount += entityItem.getItem().getCount();
+            }
+
+            var inserted = sink.insert(entry.getKey(), amount, Actionable.MODULATE);
+            if (inserted < amount) {
+                this.isAccepting = false;
+            }
+
+            // Take the inserted amount from the entities in order
+            for (var entityItem : entities) {
+                if (inserted <= 0) {
+                    break;
+                }
+                var taken = (int) Math.min(inserted, entityItem.getItem().getCount());
+                inserted -= taken;
+                if (this.handleOverflow(entityItem, taken)) {
+                    changed.add(entityItem);
+                }
+            }
         }
 
-        return false;
+        return changed;
     }
 
     /**
@@ -311,9 +357,7 @@ private boolean breakBlockAndStoreExtraItems(PickupSink sink, ServerLevel level,
         // This handles items that do not spawn via loot-tables but rather normal block breaking i.e. our cable-buses do
         // this (bad practice, really)
         var box = new AABB(pos).inflate(0.2);
-        for (var itemEntity : level.getEntitiesOfClass(ItemEntity.class, box)) {
-            this.storeEntityItem(sink, itemEntity);
-        }
+        this.storeEntityItems(sink, level.getEntitiesOfClass(ItemEntity.class, box));
         return true;
     }
 
@@ -29,6 +29,8 @@
 import net.minecraft.world.entity.player.Player;
 import net.minecraft.world.phys.Vec3;
 
+import it.unimi.dsi.fastutil.objects.Object2LongMap;
+
 import appeng.api.config.FuzzyMode;
 import appeng.api.config.Settings;
 import appeng.api.config.YesNo;
@@ -95,7 +97,14 @@ public void updateWatcher(IStackWatcher newWatcher) {
 
         @Override
         public void onStackChange(AEKey what, long amount) {
-            if (what.equals(getConfiguredKey()) && !isUpgradedWith(AEItems.FUZZY_CARD)) {
+            var myStack = getConfiguredKey();
+            if (myStack != null && what.getPrimaryKey() != myStack.getPrimaryKey()) {
+                // The fuzzy search only ever considers keys with the same primary key, so changes to other keys can
+                // not affect the reported value and do not warrant another scan.
+                return;
+            }
+
+            if (what.equals(myStack) && !isUpgradedWith(AEItems.FUZZY_CARD)) {
                 lastReportedValue = amount;
                 updateState();
             } else { // either fuzzy upgrade or null filter
@@ -108,6 +117,25 @@ public void onStackChange(AEKey what, long amount) {
                 }
             }
         }
+
+        @Override
+        public void onStackChanges(Object2LongMap<AEKey> changes) {
+            var myStack = getConfiguredKey();
+            if (myStack != null && !isUpgradedWith(AEItems.FUZZY_CARD)) {
+                if (changes.containsKey(myStack)) {
+                    onStackChange(myStack, changes.getLong(myStack));
+                }
+                return;
+            }
+
+            // Any relevant change causes a scan of the grid, which accounts for all other changes as well
+            for (var entry : changes.object2LongEntrySet()) {
+                if (myStack == null || entry.getKey().getPrimaryKey() == myStack.getPrimaryKey()) {
+                    onStackChange(entry.getKey(), entry.getLongValue());
+                    return;
+                }
+            }
+        }
     };
     private final ICraftingWatcherNode craftingWatcherNode = new ICraftingWatcherNode() {
         @Override
@@ -242,14 +270,7 @@ private void updateReportingValue(IGrid grid) {
         var myStack = getConfiguredKey();
 
         if (myStack == null) {
-            this.lastReportedValue = 0;
-            for (var st : stacks) {
-                this.lastReportedValue += st.getLongValue();
-                if (this.lastReportedValue > this.getReportingValue()) {
-                    // Stop here, we have enough info! This prevents blank emitter spam from causing lots of lag.
-                    break;
-                }
-            }
+            this.lastReportedValue = grid.getStorageService().getCachedTotalAmount();
         } else if (isUpgradedWith(AEItems.FUZZY_CARD)) {
             this.lastReportedValue = 0;
             final FuzzyMode fzMode = this.getConfigManager().getSetting(Settings.FUZZY_MODE);
@@ -18,11 +18,14 @@
 
 package appeng.parts.p2p;
 
+import java.util.Collections;
 import java.util.EnumSet;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 
+import javax.annotation.Nullable;
+
 import net.minecraft.core.Direction;
 import net.minecraft.nbt.CompoundTag;
 import net.minecraft.world.entity.player.Player;
@@ -31,6 +34,7 @@
 import appeng.api.exceptions.FailedConnectionException;
 import appeng.api.networking.GridFlags;
 import appeng.api.networking.GridHelper;
+import appeng.api.networking.IGrid;
 import appeng.api.networking.IGridConnection;
 import appeng.api.networking.IGridNode;
 import appeng.api.networking.IManagedGridNode;
@@ -46,6 +50,7 @@
 import appeng.core.settings.TickRates;
 import appeng.hooks.ticking.TickHandler;
 import appeng.items.parts.PartModels;
+import appeng.me.service.P2PService;
 
 public class MEP2PTunnelPart extends P2PTunnelPart<MEP2PTunnelPart> implements IGridTickable {
 
@@ -67,6 +72,14 @@ public static List<IPartModel> getModels() {
     // before cleanup.
     private final Map<MEP2PTunnelPart, IGridConnection> connections = new IdentityHashMap<>();
 
+    /**
+     * The grid and {@link P2PService#getVersion P2P version} that the connections were last established for. If
+     * neither changed, the tunnels on the frequency are unchanged, and connecting again can be skipped.
+     */
+    @Nullable
+    private IGrid connectedGrid;
+    private long connectedVersion;
+
     private final IManagedGridNode outerNode = GridHelper
             .createManagedNode(this, NodeListener.INSTANCE)
             .setTagName("outer")
@@ -150,13 +163,17 @@ public TickingRequest getTickingRequest(IGridNode node) {
 
     @Override
     public TickRateModulation tickingRequest(IGridNode node, int ticksSinceLastCall) {
+        // Only queue the update once, since a later wake-up just replaces the operation it will perform
+        if (pendingUpdate == ConnectionUpdate.NONE) {
+            TickHandler.instance().addCallable(getLevel(), this::updateConnections);
+        }
+
         if (!node.isOnline()) {
             pendingUpdate = ConnectionUpdate.DISCONNECT;
         } else {
             pendingUpdate = ConnectionUpdate.CONNECT;
         }
 
-        TickHandler.instance().addCallable(getLevel(), this::updateConnections);
         return TickRateModulation.SLEEP;
     }
 
@@ -181,8 +198,17 @@ private void updateConnections() {
                 cw.destroy();
             }
             connections.clear();
+            connectedGrid = null;
         } else if (operation == ConnectionUpdate.CONNECT) {
-            var outputs = getOutputs();
+            var version = P2PService.get(mainGrid).getVersion(getFrequency());
+            if (connectedGrid == mainGrid && connectedVersion == version) {
+                return;
+            }
+            connectedGrid = mainGrid;
+            connectedVersion = version;
+
+            var outputs = Collections.newSetFromMap(new IdentityHashMap<MEP2PTunnelPart, Boolean>());
+            getOutputStream().forEach(outputs::add);
 
             // Sever existing connections to tunnels that are no longer outputs of this input or
             // that have become invalid for other reasons.
@@ -42,9 +42,25 @@ final class CompassRegion extends SavedData {
 
     private static final int BITMAP_LENGTH = CHUNKS_PER_REGION * CHUNKS_PER_REGION;
 
+    /**
+     * Edge length (in chunks) of the fine and coarse blocks of the occupancy summary.
+     */
+    static final int FINE_BLOCK_SIZE = 8;
+    static final int COARSE_BLOCK_SIZE = 64;
+
+    private static final int FINE_BLOCKS_PER_REGION = CHUNKS_PER_REGION / FINE_BLOCK_SIZE;
+    private static final int COARSE_BLOCKS_PER_REGION = CHUNKS_PER_REGION / COARSE_BLOCK_SIZE;
+
     // Key is the section index, see ChunkAccess.getSections()
     private final Map<Integer, BitSet> sections = new HashMap<>();
 
+    // Summary of all sections: set for every chunk that has skystone in any section.
+    private final BitSet columns = new BitSet(BITMAP_LENGTH);
+    // Number of chunks with skystone per 8x8 and 64x64 block of chunks, used to skip empty areas when searching.
+    private final int[] fineBlockCounts = new int[FINE_BLOCKS_PER_REGION * FINE_BLOCKS_PER_REGION];
+    private final int[] coarseBlockCounts = new int[COARSE_BLOCKS_PER_REGION * COARSE_BLOCKS_PER_REGION];
+    private int totalCount;
+
     /**
      * Gets the name of the save data for a region that has the given coordinates.
      */
@@ -74,7 +90,14 @@ public static CompassRegion load(CompoundTag nbt) {
             if (key.startsWith("section")) {
                 try {
                     var sectionIndex = Integer.parseInt(key.substring("section".length()));
-                    result.sections.put(sectionIndex, BitSet.valueOf(nbt.getByteArray(key)));
+                    var section = BitSet.valueOf(nbt.getByteArray(key));
+                    result.sections.put(sectionIndex, section);
+                    // Only chunks that are new to the summary are counted
+                    var newColumns = (BitSet) section.clone();
+                    newColumns.andNot(result.columns);
+                    for (var i = newColumns.nextSetBit(0); i >= 0; i = newColumns.nextSetBit(i + 1)) {
+                        result.setColumn(i, true);
+                    }
                 } catch (NumberFormatException e) {
                     AELog.warn("Compass region contains invalid NBT tag %s", key);
                 }
@@ -98,13 +121,31 @@ public CompoundTag save(CompoundTag compound) {
     }
 
     boolean hasSkyStone(int cx, int cz) {
-        var bitmapIndex = getBitmapIndex(cx, cz);
-        for (BitSet bitmap : sections.values()) {
-            if (bitmap.get(bitmapIndex)) {
-                return true;
-            }
+        return columns.get(getBitmapIndex(cx, cz));
+    }
+
+    /**
+     * @return True if no chunk in this region contains skystone.
+     */
+    boolean isEmpty() {
+        return totalCount == 0;
+    }
+
+    /**
+     * Gets the edge length of the largest aligned block of chunks that contains the given chunk and has no skystone in
+     * it. Blocks are aligned to multiples of their size in chunk coordinates.
+     *
+     * @return {@link #COARSE_BLOCK_SIZE}, {@link #FINE_BLOCK_SIZE} or 0 if the chunk is in a block that has skystone.
+     */
+    int getEmptyBlockSize(int cx, int cz) {
+        cx &= CHUNKS_PER_REGION - 1;
+        cz &= CHUNKS_PER_REGION - 1;
+        if (coarseBlockCounts[getBlockIndex(cx, cz, COARSE_BLOCK_SIZE, COARSE_BLOCKS_PER_REGION)] == 0) {
+            return COARSE_BLOCK_SIZE;
+        } else if (fineBlockCounts[getBlockIndex(cx, cz, FINE_BLOCK_SIZE, FINE_BLOCKS_PER_REGION)] == 0) {
+            return FINE_BLOCK_SIZE;
         }
-        return false;
+        return 0;
     }
 
     boolean hasSkyStone(int cx, int cz, int sectionIndex) {
@@ -141,6 +182,36 @@ void setHasSkyStone(int cx, int cz, int sectionIndex, boolean hasSkyStone) {
                 section.set(bitmapIndex);
             }
         }
+
+        if (hasSkyStone) {
+            setColumn(bitmapIndex, true);
+        } else if (columns.get(bitmapIndex)) {
+            // Only clear the chunk from the summary if no other section still has skystone
+            for (var otherSection : sections.values()) {
+                if (otherSection.get(bitmapIndex)) {
+                    return;
+                }
+            }
+            setColumn(bitmapIndex, false);
+        }
+    }
+
+    private void setColumn(int bitmapIndex, boolean hasSkyStone) {
+        if (columns.get(bitmapIndex) == hasSkyStone) {
+            return;
+        }
+        columns.set(bitmapIndex, hasSkyStone);
+
+        var delta = hasSkyStone ? 1 : -1;
+        var cx = bitmapIndex % CHUNKS_PER_REGION;
+        var cz = bitmapIndex / CHUNKS_PER_REGION;
+        fineBlockCounts[getBlockIndex(cx, cz, FINE_BLOCK_SIZE, FINE_BLOCKS_PER_REGION)] += delta;
+        coarseBlockCounts[getBlockIndex(cx, cz, COARSE_BLOCK_SIZE, COARSE_BLOCKS_PER_REGION)] += delta;
+        totalCount += delta;
+    }
+
+    private static int getBlockIndex(int cx, int cz, int blockSize, int blocksPerRegion) {
+        return cx / blockSize + cz / blockSize * blocksPerRegion;
     }
 
     private static int getBitmapIndex(int cx, int cz) {
@@ -77,6 +77,10 @@ private static Result calculateCompassDirection(DirectionQuery query) {
             return Result.ON_THE_SPOT;
         }
 
+        if (cr.isEmpty()) {
+            return Result.INDETERMINATE;
+        }
+
         // spiral outward...
         for (int offset = 1; offset < query.maxRange(); offset++) {
             final int minX = cx - offset;
@@ -89,6 +93,13 @@ private static Result calculateCompassDirection(DirectionQuery query) {
             int chosen_z = cz;
 
             for (int z = minZ; z <= maxZ; z++) {
+                // Skip ahead while both sides of the ring pass through areas without any skystone
+                var emptyUntil = Math.min(getEmptyBlockEnd(cr, minX, z, z), getEmptyBlockEnd(cr, maxX, z, z));
+                if (emptyUntil > z) {
+                    z = emptyUntil - 1;
+                    continue;
+                }
+
                 if (cr.hasSkyStone(minX, z)) {
                     final int closeness = dist(cx, cz, minX, z);
                     if (closeness < closest) {
@@ -109,6 +120,12 @@ private static Result calculateCompassDirection(DirectionQuery query) {
             }
 
             for (int x = minX + 1; x < maxX; x++) {
+                var emptyUntil = Math.min(getEmptyBlockEnd(cr, x, minZ, x), getEmptyBlockEnd(cr, x, maxZ, x));
+                if (emptyUntil > x) {
+                    x = emptyUntil - 1;
+                    continue;
+                }
+
                 if (cr.hasSkyStone(x, minZ)) {
                     final int closeness = dist(cx, cz, x, minZ);
                     if (closeness < closest) {
@@ -176,6 +193,18 @@ private static void updateArea(CompassRegion compassRegion, ChunkAccess chunk, i
         compassRegion.setHasSkyStone(cx, cz, sectionIndex, blockCount.get() > 0);
     }
 
+    /**
+     * If the given chunk lies within an area without skystone, returns the first coordinate past the end of that area
+     * on the axis that is being scanned. Otherwise, the scanned coordinate is returned unchanged.
+     */
+    private static int getEmptyBlockEnd(CompassRegion cr, int cx, int cz, int scanned) {
+        var blockSize = cr.getEmptyBlockSize(cx, cz);
+        if (blockSize == 0) {
+            return scanned;
+        }
+        return (scanned & -blockSize) + blockSize;
+    }
+
     private static int dist(int ax, int az, int bx, int bz) {
         final int up = (bz - az) * CHUNK_SIZE;
         final int side = (bx - ax) * CHUNK_SIZE;
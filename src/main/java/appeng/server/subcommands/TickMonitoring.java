@@ -18,19 +18,33 @@
 
 package appeng.server.subcommands;
 
+import static net.minecraft.commands.Commands.literal;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
 import com.mojang.brigadier.arguments.BoolArgumentType;
 import com.mojang.brigadier.builder.LiteralArgumentBuilder;
 import com.mojang.brigadier.context.CommandContext;
 
 import net.minecraft.commands.CommandSourceStack;
 import net.minecraft.commands.Commands;
+import net.minecraft.network.chat.Component;
 import net.minecraft.server.MinecraftServer;
 
+import appeng.core.AELog;
+import appeng.me.helpers.GridProfiler;
 import appeng.me.service.TickManagerService;
 import appeng.server.ISubCommand;
+import appeng.util.Platform;
 
+/**
+ * Enables the tick monitoring of grids, and reports or exports the timings recorded by the {@link GridProfiler}.
+ */
 public class TickMonitoring implements ISubCommand {
 
+    private static final int REPORT_LINES = 10;
+
     @Override
     public void addArguments(LiteralArgumentBuilder<CommandSourceStack> builder) {
         builder.then(Commands.argument("enable", BoolArgumentType.bool()).executes(ctx -> {
@@ -38,10 +52,72 @@ public void addArguments(LiteralArgumentBuilder<CommandSourceStack> builder) {
             TickManagerService.MONITORING_ENABLED = enable;
             return 1;
         }));
+
+        builder.then(literal("reset").executes(ctx -> {
+            GridProfiler.reset();
+            ctx.getSource().sendSuccess(Component.literal("Cleared all recorded timings."), true);
+            return 1;
+        }));
+
+        var report = literal("report");
+        for (var category : GridProfiler.Category.values()) {
+            report.then(literal(category.getId()).executes(ctx -> {
+                report(ctx.getSource(), category);
+                return 1;
+            }));
+        }
+        builder.then(report);
+
+        builder.then(literal("export")
+                .then(literal("json").executes(ctx -> {
+                    export(ctx.getSource(), "json");
+                    return 1;
+                }))
+                .then(literal("collapsed").executes(ctx -> {
+                    export(ctx.getSource(), "collapsed");
+                    return 1;
+                })));
     }
 
     @Override
     public void call(MinecraftServer srv, CommandContext<CommandSourceStack> data,
             CommandSourceStack sender) {
+        sender.sendSuccess(Component.literal("Tick monitoring is "
+                + (TickManagerService.MONITORING_ENABLED ? "enabled" : "disabled")), true);
+    }
+
+    private static void report(CommandSourceStack sender, GridProfiler.Category category) {
+        var entries = GridProfiler.getEntries(category);
+        if (entries.isEmpty()) {
+            sender.sendSuccess(Component.literal("No timings have been recorded for " + category.getId()
+                    + ". Enable tick monitoring first."), false);
+            return;
+        }
+
+        sender.sendSuccess(Component.literal("Top " + category.getId() + " by total time:"), false);
+        for (var i = 0; i < Math.min(REPORT_LINES, entries.size()); i++) {
+            var entry = entries.get(i);
+            var stats = entry.stats();
+            sender.sendSuccess(Component.literal(String.join(" / ", entry.path())
+                    + ": " + Platform.formatTimeMeasurement(stats.getTotalTime())
+                    + " in " + stats.getCalls() + " calls"
+                    + ", max " + Platform.formatTimeMeasurement(stats.getMaxTime())), false);
+        }
+    }
+
+    private static void export(CommandSourceStack sender, String format) {
+        var path = Path.of("ae2-profile-" + System.currentTimeMillis() + "." + format);
+        try {
+            if (format.equals("json")) {
+                GridProfiler.exportJson(path);
+            } else {
+                GridProfiler.exportCollapsedStacks(path);
+            }
+        } catch (IOException e) {
+            AELog.warn(e, "Failed to export grid profile to " + path);
+            sender.sendFailure(Component.literal("Failed to export grid profile: " + e.getMessage()));
+            return;
+        }
+        sender.sendSuccess(Component.literal("Exported grid profile to " + path.toAbsolutePath()), true);
     }
 }
@@ -194,6 +194,38 @@ void testMergeGridsUsesSizeAsTieBreaker() throws Exception {
             assertSame(largerGrid, c.getGrid());
         }
 
+        /**
+         * Test that grids connected during a batch are only merged at the end of the batch, and that all of them are
+         * merged into the largest grid. When there's <code>a b-c d</code>, connecting a to b and c to d should move
+         * a and d directly into the grid of b and c.
+         */
+        @Test
+        void testMergeGridsInBatch() throws Exception {
+            var a = makeReadyNode();
+            var b = makeReadyNode();
+            var c = makeReadyNode();
+            var d = makeReadyNode();
+            GridConnection.create(b, c, null);
+            var largestGrid = b.getInternalGrid();
+            var gridA = a.getInternalGrid();
+            var gridD = d.getInternalGrid();
+
+            GridConnection.beginBatch();
+            try {
+                GridConnection.create(a, b, null);
+                GridConnection.create(c, d, null);
+                assertSame(gridA, a.getGrid());
+                assertSame(gridD, d.getGrid());
+            } finally {
+                GridConnection.endBatch();
+            }
+
+            assertSame(largestGrid, a.getGrid());
+            assertSame(largestGrid, b.getGrid());
+            assertSame(largestGrid, c.getGrid());
+            assertSame(largestGrid, d.getGrid());
+        }
+
         private void assertOnlyConnection(GridNode a, GridNode b) {
             assertSameGrid(a, b);
             assertThat(a.getConnections()).hasSize(1);
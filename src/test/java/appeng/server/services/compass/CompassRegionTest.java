@@ -0,0 +1,88 @@
+/*
+ * This file is part of Applied Energistics 2.
+ * Copyright (c) 2022, TeamAppliedEnergistics, All rights reserved.
+ *
+ * Applied Energistics 2 is free software: you can redistribute it and/or modify
+ * it under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation, either version 3 of the License, or
+ * (at your option) any later version.
+ *
+ * Applied Energistics 2 is distributed in the hope that it will be useful,
+ * but WITHOUT ANY WARRANTY; without even the implied warranty of
+ * MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+ * GNU Lesser General Public License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Applied Energistics 2.  If not, see <http://www.gnu.org/licenses/lgpl>.
+ */
+
+package appeng.server.services.compass;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+import net.minecraft.nbt.CompoundTag;
+
+class CompassRegionTest {
+
+    private final CompassRegion region = new CompassRegion();
+
+    @Test
+    void testEmptyRegion() {
+        assertTrue(region.isEmpty());
+        assertEquals(CompassRegion.COARSE_BLOCK_SIZE, region.getEmptyBlockSize(0, 0));
+        assertEquals(CompassRegion.COARSE_BLOCK_SIZE, region.getEmptyBlockSize(-1, 1023));
+    }
+
+    @Test
+    void testSummaryTracksAllSections() {
+        region.setHasSkyStone(10, 20, 3, true);
+        region.setHasSkyStone(10, 20, 5, true);
+
+        assertFalse(region.isEmpty());
+        assertTrue(region.hasSkyStone(10, 20));
+        // Same fine block
+        assertEquals(0, region.getEmptyBlockSize(8, 16));
+        // Different fine block within the same coarse block
+        assertEquals(CompassRegion.FINE_BLOCK_SIZE, region.getEmptyBlockSize(0, 0));
+        // Different coarse block
+        assertEquals(CompassRegion.COARSE_BLOCK_SIZE, region.getEmptyBlockSize(64, 0));
+
+        // Still has skystone in another section
+        region.setHasSkyStone(10, 20, 3, false);
+        assertTrue(region.hasSkyStone(10, 20));
+        assertEquals(0, region.getEmptyBlockSize(10, 20));
+
+        region.setHasSkyStone(10, 20, 5, false);
+        assertFalse(region.hasSkyStone(10, 20));
+        assertTrue(region.isEmpty());
+        assertEquals(CompassRegion.COARSE_BLOCK_SIZE, region.getEmptyBlockSize(10, 20));
+    }
+
+    @Test
+    void testNegativeCoordinatesWrapIntoRegion() {
+        region.setHasSkyStone(-1, -1, 0, true);
+
+        assertTrue(region.hasSkyStone(1023, 1023));
+        assertEquals(0, region.getEmptyBlockSize(1016, 1016));
+    }
+
+    @Test
+    void testSummaryIsRebuiltOnLoad() {
+        region.setHasSkyStone(100, 200, 1, true);
+        region.setHasSkyStone(100, 200, 2, true);
+        region.setHasSkyStone(300, 400, 2, true);
+
+        var loaded = CompassRegion.load(region.save(new CompoundTag()));
+
+        assertTrue(loaded.hasSkyStone(100, 200));
+        assertTrue(loaded.hasSkyStone(300, 400));
+        loaded.setHasSkyStone(100, 200, 1, false);
+        loaded.setHasSkyStone(100, 200, 2, false);
+        loaded.setHasSkyStone(300, 400, 2, false);
+        assertTrue(loaded.isEmpty());
+    }
+}